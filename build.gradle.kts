@@ -5,6 +5,7 @@ plugins {
     id("io.papermc.paperweight.userdev") version "2.0.0-beta.19"
     id("xyz.jpenilla.run-paper") version "3.0.2"
     id("com.gradleup.shadow") version "9.3.1"
+    id("me.champeau.jmh") version "0.7.3"
     id("maven-publish")
 }
 
@@ -41,6 +42,21 @@ dependencies {
     testImplementation("org.mockbukkit.mockbukkit:mockbukkit-v1.21:$mockbukkitVersion")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     testImplementation("com.github.ben-manes.caffeine:caffeine:${caffeineVersion}")
+
+    // Benchmark Dependencies
+    jmhImplementation(paperweight.paperDevBundle("$minecraftVersion-R0.1-SNAPSHOT"))
+    jmhImplementation("org.mockbukkit.mockbukkit:mockbukkit-v1.21:$mockbukkitVersion")
+    jmhImplementation("com.github.ben-manes.caffeine:caffeine:${caffeineVersion}")
+}
+
+jmh {
+    // Reuse the MockBukkit server mock of the tests
+    includeTests.set(true)
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
 }
 
 paperweight {
@@ -0,0 +1,136 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.helpers.NOPLogger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Lang rendering pipeline, run headless against MockBukkit.
+ * <p>
+ * Run with {@code ./gradlew jmh}, the gc profiler reports the allocations of each benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LangBenchmark {
+
+    private static final String KEY = "command.reload.start";
+    private static final String PLACEHOLDER_KEY = "command.reload.done";
+    private static final String LIST_KEY = "new-update";
+
+    private final TagResolver placeholder = Lang.numberPlaceholder("time_ms", 42);
+    // Parsed placeholders cannot fill a template slot, the message goes through the MiniMessage parser
+    private final TagResolver parsedPlaceholder = Lang.placeholder("time_ms", "<gold>42</gold>");
+
+    private Lang cached;
+    private Lang uncached;
+    private LangLocale defaultLocale;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MockBukkitHelper.safeMock();
+        KikoAPI plugin = MockBukkit.load(KikoAPI.class);
+
+        // Quiet loggers, so that loads and reloads do not measure logging
+        cached = Lang.builder(plugin)
+                .logger(NOPLogger.NOP_LOGGER)
+                .cachePlaceholders(true)
+                .build();
+        uncached = Lang.builder(plugin)
+                .logger(NOPLogger.NOP_LOGGER)
+                .cacheComponents(false)
+                .cachePlaceholders(false)
+                .build();
+
+        defaultLocale = cached.loadLocale(cached.defaultLocale());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cached.close();
+        uncached.close();
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Benchmark
+    public Component getCached() {
+        return cached.get(KEY);
+    }
+
+    @Benchmark
+    public Component getUncached() {
+        return uncached.get(KEY);
+    }
+
+    @Benchmark
+    public Component getPlaceholderCached() {
+        return cached.get(PLACEHOLDER_KEY, placeholder);
+    }
+
+    @Benchmark
+    public Component getPlaceholderUncached() {
+        return uncached.get(PLACEHOLDER_KEY, placeholder);
+    }
+
+    @Benchmark
+    public Component getParsedPlaceholderCached() {
+        return cached.get(PLACEHOLDER_KEY, parsedPlaceholder);
+    }
+
+    @Benchmark
+    public Component getParsedPlaceholderUncached() {
+        return uncached.get(PLACEHOLDER_KEY, parsedPlaceholder);
+    }
+
+    @Benchmark
+    @Threads(32)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void getContended(Blackhole blackhole) {
+        blackhole.consume(cached.get(PLACEHOLDER_KEY, placeholder));
+        blackhole.consume(cached.get(KEY));
+    }
+
+    @Benchmark
+    public ObjectList<Component> getList() {
+        return cached.getList(LIST_KEY);
+    }
+
+    @Benchmark
+    public void sendMessage() {
+        cached.sendMessage(Audience.empty(), PLACEHOLDER_KEY, placeholder);
+    }
+
+    @Benchmark
+    public TagResolver[] createTagResolvers() {
+        return cached.createTagResolvers(defaultLocale, placeholder);
+    }
+
+    @Benchmark
+    public LangLocale loadLocaleCold() {
+        return uncached.loadLocale(uncached.defaultLocale());
+    }
+
+    @Benchmark
+    public void reload() {
+        uncached.reload();
+    }
+}
@@ -1,6 +1,8 @@
 package fr.kikoplugins.kikoapi;
 
 import fr.kikoplugins.kikoapi.lang.Lang;
+import fr.kikoplugins.kikoapi.lang.LangRegistry;
+import fr.kikoplugins.kikoapi.lang.LangUtils;
 import fr.kikoplugins.kikoapi.updatechecker.UpdateChecker;
 import org.bstats.bukkit.Metrics;
 import org.bukkit.Bukkit;
@@ -15,6 +17,7 @@ public class KikoAPI extends JavaPlugin {
     public static Lang LANG;
 
     private Metrics bStats;
+    private LangRegistry langRegistry;
 
     @Override
     public void onLoad() {
@@ -25,8 +28,11 @@ public class KikoAPI extends JavaPlugin {
     public void onEnable() {
         saveDefaultConfig();
 
+        this.langRegistry = new LangRegistry(this.getConfig().getLong("lang.shared-cache.max-weight", LangUtils.DEFAULT_MAX_SHARED_CACHE_WEIGHT));
+
         LANG = Lang.builder(this)
                 .addDefaultLanguageFiles("en_US.yml", "fr_FR.yml")
+                .useSharedCache(true)
                 .build();
 
         if (!isUnitTest())
@@ -46,7 +52,8 @@ public class KikoAPI extends JavaPlugin {
         this.getSLF4JLogger().info("Reloading KikoAPI...");
 
         this.reloadConfig();
-        LANG.reload();
+        this.langRegistry.maxWeight(this.getConfig().getLong("lang.shared-cache.max-weight", LangUtils.DEFAULT_MAX_SHARED_CACHE_WEIGHT));
+        LANG.reload(true);
 
         this.getSLF4JLogger().info("KikoAPI reloaded.");
     }
@@ -58,4 +65,8 @@ public class KikoAPI extends JavaPlugin {
     public static KikoAPI getInstance() {
         return instance;
     }
+
+    public LangRegistry getLangRegistry() {
+        return langRegistry;
+    }
 }
@@ -6,6 +6,8 @@ import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import fr.kikoplugins.kikoapi.KikoAPI;
 import fr.kikoplugins.kikoapi.lang.Lang;
+import fr.kikoplugins.kikoapi.lang.LangMetrics;
+import fr.kikoplugins.kikoapi.lang.LangRegistry;
 import fr.kikoplugins.kikoapi.utils.CommandUtils;
 import fr.kikoplugins.kikoapi.utils.MathUtils;
 import fr.kikoplugins.kikoapi.utils.Task;
@@ -13,6 +15,9 @@ import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
 import org.bukkit.command.CommandSender;
 
+import java.util.Locale;
+import java.util.Map;
+
 import static fr.kikoplugins.kikoapi.KikoAPI.LANG;
 
 public class KikoAPICommand {
@@ -25,6 +30,7 @@ public class KikoAPICommand {
                 .requires(css -> CommandUtils.defaultRequirements(css, "kikoapi.command.kikoapi"))
                 .then(reloadCommand())
                 .then(sendTestMessageCommand())
+                .then(statsCommand())
                 .build();
     }
 
@@ -69,4 +75,54 @@ public class KikoAPICommand {
                         })
                 );
     }
+
+    private static LiteralArgumentBuilder<CommandSourceStack> statsCommand() {
+        return Commands.literal("stats")
+                .requires(css -> CommandUtils.defaultRequirements(css, "kikoapi.command.kikoapi.stats"))
+                .executes(ctx -> {
+                    CommandSender sender = CommandUtils.sender(ctx);
+                    LangMetrics metrics = LANG.metrics();
+
+                    LANG.sendMessage(sender, "command.stats.header");
+
+                    for (Map.Entry<Locale, LangMetrics.LocaleMetrics> entry : metrics.locales().entrySet()) {
+                        LangMetrics.LocaleMetrics locale = entry.getValue();
+                        LANG.sendMessage(sender, "command.stats.locale",
+                                Lang.placeholder("locale", entry.getKey().toLanguageTag()),
+                                Lang.numberPlaceholder("hits", locale.hits()),
+                                Lang.numberPlaceholder("misses", locale.misses()),
+                                Lang.numberPlaceholder("evictions", locale.evictions()),
+                                Lang.numberPlaceholder("loads", locale.loads()),
+                                Lang.numberPlaceholder("hit_rate", MathUtils.decimalRound(locale.hitRate() * 100D, 2))
+                        );
+                    }
+
+                    sendHistogram(sender, "command.stats.parse", metrics.parse());
+                    sendHistogram(sender, "command.stats.template", metrics.template());
+                    sendHistogram(sender, "command.stats.cache-hit", metrics.cacheHit());
+                    sendHistogram(sender, "command.stats.send", metrics.send());
+
+                    LANG.sendMessage(sender, "command.stats.missing-keys",
+                            Lang.numberPlaceholder("count", metrics.missingKeys())
+                    );
+
+                    LangRegistry registry = KikoAPI.getInstance().getLangRegistry();
+                    LANG.sendMessage(sender, "command.stats.shared-cache",
+                            Lang.numberPlaceholder("instances", registry.instances().size()),
+                            Lang.numberPlaceholder("weight", registry.weightedSize()),
+                            Lang.numberPlaceholder("max_weight", registry.maxWeight())
+                    );
+
+                    return Command.SINGLE_SUCCESS;
+                });
+    }
+
+    private static void sendHistogram(CommandSender sender, String key, LangMetrics.Histogram histogram) {
+        LANG.sendMessage(sender, key,
+                Lang.numberPlaceholder("count", histogram.count()),
+                Lang.numberPlaceholder("mean_us", MathUtils.decimalRound(histogram.meanNanos() / 1_000D, 2)),
+                Lang.numberPlaceholder("p50_us", MathUtils.decimalRound(histogram.percentileNanos(0.5D) / 1_000D, 2)),
+                Lang.numberPlaceholder("p99_us", MathUtils.decimalRound(histogram.percentileNanos(0.99D) / 1_000D, 2))
+        );
+    }
 }
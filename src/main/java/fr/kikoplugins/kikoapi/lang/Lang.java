@@ -2,34 +2,67 @@ package fr.kikoplugins.kikoapi.lang;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.utils.Task;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import it.unimi.dsi.fastutil.objects.*;
 import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.minimessage.Context;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Inserting;
+import net.kyori.adventure.text.minimessage.tag.PreProcess;
 import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.title.Title;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.permissions.Permissible;
+import org.bukkit.plugin.IllegalPluginAccessException;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Currency;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Advanced, plugin-independent language and localization system with Caffeine caching and MiniMessage placeholders.
@@ -38,8 +71,10 @@ import java.util.function.Supplier;
  * <ul>
  *     <li><b>Instance-based:</b> Each plugin has its own Lang instance</li>
  *     <li><b>Caffeine cache:</b> High-performance, auto-evicting component cache</li>
+ *     <li><b>Compiled templates:</b> Messages with placeholders are parsed once, then only have their slots filled</li>
  *     <li><b>MiniMessage placeholders:</b> Named placeholders instead of positional arguments</li>
- *     <li><b>Lazy loading:</b> Locales loaded on-demand</li>
+ *     <li><b>Lazy loading:</b> Locales loaded on-demand, in the background for player locales</li>
+ *     <li><b>Fallback chains:</b> Client locales fall back to configured locales, then to the same language, then to the default locale</li>
  *     <li><b>Flexible configuration:</b> Builder pattern with sensible defaults</li>
  *     <li><b>Custom tag resolvers:</b> Extensible tag system per plugin</li>
  *     <li><b>Better error handling:</b> Graceful degradation with detailed logging</li>
@@ -72,23 +107,45 @@ import java.util.function.Supplier;
 @SuppressWarnings("unused")
 @NullMarked
 public class Lang {
+    // Ticks without display updates before the display flusher stops
+    private static final int DISPLAY_IDLE_TICKS = 20;
+
     private final JavaPlugin plugin;
+    private final String namespace;
     private final Logger logger;
     private final MiniMessage miniMessage;
 
     private final boolean cacheComponents;
+    private final boolean asyncLocaleLoading;
+    private final boolean compileBundles;
+    private final boolean prerender;
+    private final boolean loadAllLocales;
+    private final long idleLocaleNanos;
     private final MissingKeyBehavior missingKeyBehavior;
     private final ObjectSet<String> defaultLanguageFiles;
     private final String langDirectory;
 
-    private final Object2ObjectMap<Locale, Object2ObjectMap<String, String>> messages;
-    private final Object2ObjectMap<Locale, Object2ObjectMap<String, Object2ObjectMap<String, String>>> specialTags;
     @Nullable private final Object componentCache;
-    private final ObjectSet<Locale> loadedLocales;
+    @Nullable private final Object placeholderCache;
+    @Nullable private final LangRegistry registry;
     private final Object2ObjectMap<String, TagResolver> customTagResolvers;
-
-    private Locale defaultLocale = Locale.US;
-    private boolean usePlayerLocale = false;
+    private final TagResolver customTagResolver;
+
+    // Readers only ever do a single volatile read, writers publish a new snapshot under the write lock
+    private final Object writeLock = new Object();
+    private volatile LangSnapshot snapshot;
+    private final LangMetrics metrics = new LangMetrics();
+    private final @Nullable LangWatcher watcher;
+    private final @Nullable ScheduledTask idleLocaleSweeper;
+    private final @Nullable LangListener listener;
+    private volatile boolean closed;
+    private final Map<Locale, CompletableFuture<LangLocale>> pendingLocales = new ConcurrentHashMap<>();
+    private final Map<UUID, PlayerLocale> playerLocales = new ConcurrentHashMap<>();
+    private final LangDisplay display = new LangDisplay();
+    // Started on the first queued display update, stopped once nothing was queued for a while
+    private final Object displayLock = new Object();
+    private @Nullable BukkitTask displayFlusher;
+    private int idleDisplayTicks;
 
     /**
      * Private constructor - use {@link LangBuilder} instead.
@@ -99,28 +156,160 @@ public class Lang {
         this.miniMessage = MiniMessage.miniMessage();
 
         this.cacheComponents = builder.cacheComponents;
+        this.asyncLocaleLoading = builder.asyncLocaleLoading;
+        this.compileBundles = builder.compileBundles;
+        this.prerender = builder.prerender;
+        this.loadAllLocales = builder.loadAllLocales;
+        this.idleLocaleNanos = builder.unloadIdleLocales != null ? builder.unloadIdleLocales.toNanos() : 0L;
         this.missingKeyBehavior = builder.missingKeyBehavior;
         this.defaultLanguageFiles = new ObjectOpenHashSet<>(builder.defaultLanguageFiles);
         this.langDirectory = builder.langDirectory;
+        // Several instances of one plugin may share the cache as long as they read different directories
+        this.namespace = plugin.getName() + ':' + langDirectory;
 
-        this.messages = Object2ObjectMaps.synchronize(new Object2ObjectOpenHashMap<>());
-        this.specialTags = Object2ObjectMaps.synchronize(new Object2ObjectOpenHashMap<>());
-        this.componentCache = this.cacheComponents ? buildCaffeineCache(builder) : null;
-        this.loadedLocales = ObjectSets.synchronize(new ObjectOpenHashSet<>());
+        this.registry = builder.useSharedCache ? sharedRegistry() : null;
+        if (this.registry != null)
+            this.componentCache = this.cacheComponents ? this.registry.cache() : null;
+        else
+            this.componentCache = this.cacheComponents ? buildCaffeineCache(builder, metrics) : null;
+
+        // Placeholder components keep their own limits, they would otherwise crowd out the shared static components
+        this.placeholderCache = builder.cachePlaceholders ? buildPlaceholderCache(builder, metrics) : null;
         this.customTagResolvers = new Object2ObjectOpenHashMap<>(builder.customTagResolvers);
+        this.customTagResolver = TagResolver.resolver(this.customTagResolvers.values());
+
+        this.snapshot = this.initialize();
+
+        // Registered before anything outlives a rejected instance
+        if (this.registry != null)
+            this.registry.register(this);
+
+        this.watcher = builder.watchFiles ? startWatcher(builder.watchDebounce) : null;
+
+        // Lang instances built before the plugin is enabled load player locales on first use
+        this.listener = plugin.isEnabled() ? new LangListener(this, plugin) : null;
+        if (this.listener != null) {
+            plugin.getServer().getPluginManager().registerEvents(this.listener, plugin);
+
+            // Players already online will not join again, their locales are loaded on first use
+            if (usePlayerLocale()) {
+                for (Player player : plugin.getServer().getOnlinePlayers())
+                    playerLocales.put(player.getUniqueId(), new PlayerLocale(player.locale(), null, null));
+            }
+        }
+
+        this.idleLocaleSweeper = idleLocaleNanos > 0 ? startIdleLocaleSweeper() : null;
+    }
+
+    /**
+     * Gets the registry hosted by KikoAPI.
+     *
+     * @return The registry
+     * @throws IllegalStateException If KikoAPI is not enabled
+     */
+    private static LangRegistry sharedRegistry() {
+        KikoAPI kikoAPI = KikoAPI.getInstance();
+        Preconditions.checkState(kikoAPI != null && kikoAPI.getLangRegistry() != null,
+                "KikoAPI must be enabled to use the shared cache");
 
-        this.initialize();
+        return kikoAPI.getLangRegistry();
+    }
+
+    /**
+     * Starts watching the language directory for changes.
+     *
+     * @param debounce The time to wait for a file to stop changing before reloading it
+     * @return The watcher, or null if the directory cannot be watched
+     */
+    @Nullable
+    private LangWatcher startWatcher(Duration debounce) {
+        Path directory = new File(plugin.getDataFolder(), langDirectory).toPath();
+
+        try {
+            LangWatcher langWatcher = new LangWatcher(this, directory, logger, debounce, plugin.getName());
+            langWatcher.start();
+            logger.info("Watching language files of {} in {}", plugin.getName(), directory);
+            return langWatcher;
+        } catch (IOException e) {
+            logger.warn("Failed to watch language directory {}, changes will need a reload", directory, e);
+            return null;
+        }
+    }
+
+    /**
+     * Starts unloading idle locales periodically, a few times per idle time and at least once a minute.
+     *
+     * @return The sweeping task
+     */
+    private ScheduledTask startIdleLocaleSweeper() {
+        long intervalSeconds = Math.max(1L, Math.min(60L, TimeUnit.NANOSECONDS.toSeconds(idleLocaleNanos) / 4));
+
+        return Task.asyncRepeat(task -> {
+            try {
+                unloadIdleLocales();
+            } catch (Exception e) {
+                logger.error("Failed to unload idle locales for {}", plugin.getName(), e);
+            }
+        }, plugin, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
     }
 
     /**
      * Builds a Caffeine cache with the specified configuration.
+     * <p>
+     * The cache is bounded by the estimated retained size of its components if {@link LangBuilder#maxCacheWeightBytes(long)}
+     * is set, by its number of entries otherwise.
+     *
+     * @param builder The builder containing cache configuration
+     * @param metrics The metrics to record evictions to
+     * @return Configured Caffeine cache
+     */
+    private static Cache<LangCacheKey, Component> buildCaffeineCache(LangBuilder builder, LangMetrics metrics) {
+        Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
+
+        if (builder.maxCacheWeightBytes > 0) {
+            cacheBuilder.maximumWeight(builder.maxCacheWeightBytes)
+                    .weigher((LangCacheKey key, Component component) -> LangWeigher.weigh(key, component));
+        } else {
+            cacheBuilder.maximumSize(builder.maxCacheSize);
+        }
+
+        if (builder.cacheExpireAfterAccess != null)
+            cacheBuilder.expireAfterAccess(builder.cacheExpireAfterAccess);
+
+        if (builder.cacheExpireAfterWrite != null)
+            cacheBuilder.expireAfterWrite(builder.cacheExpireAfterWrite);
+
+        if (builder.recordStats)
+            cacheBuilder.recordStats();
+
+        cacheBuilder.evictionListener((@Nullable LangCacheKey key, @Nullable Component component, RemovalCause cause) -> {
+            if (key != null)
+                metrics.recordEviction(key.locale());
+        });
+
+        return cacheBuilder.build();
+    }
+
+    /**
+     * Builds the Caffeine cache of components rendered with placeholders.
+     * <p>
+     * Entries are weighed like the component cache, by the estimated retained size in bytes of the key,
+     * its placeholder values and the component. Caffeine cannot bound a cache by both size and weight,
+     * so every entry weighs at least {@code maxWeight / maxSize}: the cache can then never hold more
+     * than {@code maxSize} entries, while a few heavy placeholder values still count for what they are.
      *
      * @param builder The builder containing cache configuration
+     * @param metrics The metrics to record evictions to
      * @return Configured Caffeine cache
      */
-    private static Cache<LangCacheKey, Component> buildCaffeineCache(LangBuilder builder) {
-        Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
-                .maximumSize(builder.maxCacheSize);
+    private static Cache<LangCacheKey, Component> buildPlaceholderCache(LangBuilder builder, LangMetrics metrics) {
+        long maxWeight = builder.maxPlaceholderCacheWeight;
+        int minEntryWeight = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(1L, (maxWeight + builder.maxPlaceholderCacheSize - 1) / builder.maxPlaceholderCacheSize));
+
+        Caffeine<LangCacheKey, Component> cacheBuilder = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((LangCacheKey key, Component component) -> Math.max(minEntryWeight, LangWeigher.weigh(key, component)));
 
         if (builder.cacheExpireAfterAccess != null)
             cacheBuilder.expireAfterAccess(builder.cacheExpireAfterAccess);
@@ -131,9 +320,50 @@ public class Lang {
         if (builder.recordStats)
             cacheBuilder.recordStats();
 
+        cacheBuilder.evictionListener((@Nullable LangCacheKey key, @Nullable Component component, RemovalCause cause) -> {
+            if (key != null)
+                metrics.recordEviction(key.locale());
+        });
+
         return cacheBuilder.build();
     }
 
+    /**
+     * Extracts the cache key values of placeholders.
+     *
+     * @param placeholders The placeholders
+     * @return The placeholder names followed by their values, or null if a placeholder has no comparable value
+     */
+    @Nullable
+    private static ObjectList<Object> placeholderValues(TagResolver... placeholders) {
+        ObjectList<Object> values = new ObjectArrayList<>(placeholders.length * 2);
+
+        for (TagResolver placeholder : placeholders) {
+            // Formatted per locale, and the cache key already holds the locale
+            if (placeholder instanceof LangLocalizedPlaceholder localized) {
+                values.add(localized.key());
+                values.add(localized);
+                continue;
+            }
+
+            if (!(placeholder instanceof TagResolver.Single single))
+                return null;
+
+            Object value;
+            if (single.tag() instanceof Inserting inserting)
+                value = inserting.value();
+            else if (single.tag() instanceof PreProcess preProcess)
+                value = preProcess.value();
+            else
+                return null;
+
+            values.add(single.key());
+            values.add(value);
+        }
+
+        return values;
+    }
+
     /**
      * Creates a new builder for configuring a Lang instance.
      *
@@ -184,7 +414,9 @@ public class Lang {
     }
 
     /**
-     * Creates a number placeholder from a numeric value.
+     * Creates a number placeholder from a numeric value, written as is whatever the locale.
+     * Use {@link #integerPlaceholder(String, long)} or {@link #decimalPlaceholder(String, double)}
+     * to format it for the locale the message is rendered in.
      *
      * @param key    The placeholder key
      * @param number The number value
@@ -195,24 +427,202 @@ public class Lang {
         return Placeholder.unparsed(key, String.valueOf(number));
     }
 
+    /**
+     * Creates an integer placeholder, formatted with the grouping separator of the locale
+     * the message is rendered in (e.g. "1,234" or "1 234").
+     *
+     * @param key    The placeholder key
+     * @param number The number value
+     * @return TagResolver for this placeholder
+     */
+    public static TagResolver integerPlaceholder(String key, long number) {
+        return LangLocalizedPlaceholder.of(key, LangLocalizedPlaceholder.Kind.INTEGER, number);
+    }
+
+    /**
+     * Creates a decimal placeholder, formatted with the separators of the locale
+     * the message is rendered in and at most two fraction digits (e.g. "1,234.5" or "1 234,5").
+     *
+     * @param key    The placeholder key
+     * @param number The number value
+     * @return TagResolver for this placeholder
+     */
+    public static TagResolver decimalPlaceholder(String key, double number) {
+        return LangLocalizedPlaceholder.of(key, LangLocalizedPlaceholder.Kind.DECIMAL, number, null);
+    }
+
+    /**
+     * Creates a compact number placeholder, formatted in the short form of the locale
+     * the message is rendered in (e.g. "1.2K" or "1,2 k").
+     *
+     * @param key    The placeholder key
+     * @param number The number value
+     * @return TagResolver for this placeholder
+     */
+    public static TagResolver compactNumberPlaceholder(String key, long number) {
+        return LangLocalizedPlaceholder.of(key, LangLocalizedPlaceholder.Kind.COMPACT, number);
+    }
+
+    /**
+     * Creates a currency placeholder, formatted for the locale the message is rendered in
+     * (e.g. "$1,234.50" or "1 234,50 $US").
+     *
+     * @param key      The placeholder key
+     * @param amount   The amount of money
+     * @param currency The currency of the amount
+     * @return TagResolver for this placeholder
+     */
+    public static TagResolver currencyPlaceholder(String key, double amount, Currency currency) {
+        Preconditions.checkNotNull(currency, "currency cannot be null");
+
+        return LangLocalizedPlaceholder.of(key, LangLocalizedPlaceholder.Kind.CURRENCY, amount, currency);
+    }
+
+    /**
+     * Creates a duration placeholder, formatted as its non-zero units down to seconds (e.g. "1d 2h 5s").
+     * The unit suffixes are read from the {@code format.duration.days}, {@code hours}, {@code minutes}
+     * and {@code seconds} keys of the locale, and default to "d", "h", "m" and "s".
+     *
+     * @param key      The placeholder key
+     * @param duration The duration, negative durations show as zero
+     * @return TagResolver for this placeholder
+     */
+    public static TagResolver durationPlaceholder(String key, Duration duration) {
+        Preconditions.checkNotNull(duration, "duration cannot be null");
+
+        return LangLocalizedPlaceholder.of(key, LangLocalizedPlaceholder.Kind.DURATION, duration.getSeconds());
+    }
+
     /**
      * Initializes the language system by extracting default files and loading the default locale.
+     *
+     * @return The initial snapshot, holding the default locale
      */
     @SuppressWarnings("java:S2629")
-    private void initialize() {
+    private LangSnapshot initialize() {
         FileConfiguration config = this.plugin.getConfig();
-        String langCode = config.getString("lang.default", LangUtils.DEFAULT_LANG_CODE);
-        this.defaultLocale = Locale.forLanguageTag(langCode.replace('_', '-'));
-        this.usePlayerLocale = config.getBoolean("lang.use-player-locale", false);
+        Locale defaultLocale = configuredDefaultLocale(config);
+        boolean usePlayerLocale = config.getBoolean("lang.use-player-locale", false);
 
         saveDefaultLanguageFiles();
-        ensureLocaleLoaded(defaultLocale);
+        LangFallbacks fallbacks = loadFallbacks(config, defaultLocale);
+        LangSnapshot initialSnapshot = loadAllLocales
+                ? LangSnapshot.of(defaultLocale, usePlayerLocale, fallbacks, loadLocalesInParallel(defaultLocale, fallbacks))
+                : LangSnapshot.of(loadLocale(defaultLocale), usePlayerLocale, fallbacks);
 
         this.logger.info("Initialized Lang system for {} with default locale: {} (use-player-locale: {}, cache: {})",
                 plugin.getName(),
                 defaultLocale.toLanguageTag(),
                 usePlayerLocale,
                 cacheComponents ? "enabled" : "disabled");
+
+        return initialSnapshot;
+    }
+
+    /**
+     * Loads the default locale and every locale with a language file in parallel, each file being read,
+     * flattened and built independently on the common fork-join pool before they are merged into a single snapshot.
+     *
+     * @param defaultLocale The default locale
+     * @param fallbacks     The fallbacks listing the language files
+     * @return The loaded locales
+     */
+    @SuppressWarnings("java:S2629")
+    private ObjectList<LangLocale> loadLocalesInParallel(Locale defaultLocale, LangFallbacks fallbacks) {
+        ObjectSet<Locale> locales = new ObjectOpenHashSet<>(fallbacks.available());
+        locales.add(defaultLocale);
+
+        long startNanos = System.nanoTime();
+        Map<Locale, Long> loadNanos = new ConcurrentHashMap<>();
+        ObjectList<LangLocale> langLocales = locales.parallelStream()
+                .map(locale -> {
+                    long localeStart = System.nanoTime();
+                    LangLocale langLocale = loadLocale(locale);
+                    loadNanos.put(locale, System.nanoTime() - localeStart);
+                    return langLocale;
+                })
+                .collect(ObjectArrayList::new, ObjectList::add, ObjectList::addAll);
+
+        // Slowest files first
+        String timings = loadNanos.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
+                .map(entry -> "%s: %.2f ms".formatted(normalizeLocaleToFileName(entry.getKey()), entry.getValue() / 1_000_000D))
+                .collect(Collectors.joining(", "));
+
+        logger.info("Loaded {} language files for {} in parallel in {} ms ({})",
+                langLocales.size(),
+                plugin.getName(),
+                "%.2f".formatted((System.nanoTime() - startNanos) / 1_000_000D),
+                timings);
+
+        return langLocales;
+    }
+
+    /**
+     * Reads the default locale from the plugin config.
+     *
+     * @param config The plugin config
+     * @return The default locale
+     */
+    private static Locale configuredDefaultLocale(FileConfiguration config) {
+        String langCode = config.getString("lang.default", LangUtils.DEFAULT_LANG_CODE);
+        return parseLocale(langCode);
+    }
+
+    /**
+     * Parses a locale written as a language file name (e.g., en_US).
+     *
+     * @param langCode The locale code
+     * @return The locale
+     */
+    private static Locale parseLocale(String langCode) {
+        return Locale.forLanguageTag(langCode.replace('_', '-'));
+    }
+
+    /**
+     * Lists the language files on disk and reads the fallback chains from the plugin config.
+     * <p>
+     * Config format:
+     * <pre>{@code
+     * lang:
+     *   fallbacks:
+     *     fr_CA: fr_FR
+     *     en_GB: [en_US]
+     * }</pre>
+     *
+     * @param config        The plugin config
+     * @param defaultLocale The default locale
+     * @return The fallbacks
+     */
+    private LangFallbacks loadFallbacks(FileConfiguration config, Locale defaultLocale) {
+        ObjectSet<Locale> available = new ObjectOpenHashSet<>();
+        File[] files = new File(plugin.getDataFolder(), langDirectory).listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                available.add(parseLocale(name.substring(0, name.length() - ".yml".length())));
+            }
+        }
+
+        Object2ObjectMap<Locale, ObjectList<Locale>> configured = new Object2ObjectOpenHashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("lang.fallbacks");
+        if (section != null) {
+            for (String langCode : section.getKeys(false)) {
+                ObjectList<Locale> fallbacks = new ObjectArrayList<>();
+                if (section.isList(langCode)) {
+                    for (String fallback : section.getStringList(langCode))
+                        fallbacks.add(parseLocale(fallback));
+                } else {
+                    String fallback = section.getString(langCode);
+                    if (fallback != null)
+                        fallbacks.add(parseLocale(fallback));
+                }
+
+                configured.put(parseLocale(langCode), fallbacks);
+            }
+        }
+
+        return new LangFallbacks(defaultLocale, available, configured);
     }
 
     /**
@@ -254,186 +664,495 @@ public class Lang {
     }
 
     /**
-     * Ensures a locale is loaded. If not already loaded, loads it from disk.
-     * Thread-safe and idempotent.
+     * Ensures a locale is loaded. If not already loaded, loads it from disk and publishes a new snapshot.
+     * Thread-safe and idempotent, only writers take the write lock.
+     *
+     * @param snapshot The snapshot seen by the caller
+     * @param locale   The locale to ensure is loaded
+     * @return The loaded locale
+     */
+    private LangLocale ensureLocaleLoaded(LangSnapshot snapshot, Locale locale) {
+        LangLocale langLocale = snapshot.locale(locale);
+        if (langLocale != null)
+            return langLocale;
+
+        synchronized (writeLock) {
+            LangSnapshot current = this.snapshot;
+            langLocale = current.locale(locale);
+            if (langLocale != null)
+                return langLocale;
+
+            langLocale = loadLocale(locale);
+            this.snapshot = current.with(langLocale);
+            return langLocale;
+        }
+    }
+
+    /**
+     * Starts loading a locale in the background, unless it is already loaded or loading.
      *
-     * @param locale The locale to ensure is loaded
+     * @param locale The locale to load
      */
-    private synchronized void ensureLocaleLoaded(Locale locale) {
-        if (loadedLocales.contains(locale))
+    private void loadLocaleAsync(Locale locale) {
+        CompletableFuture<LangLocale> future = new CompletableFuture<>();
+        if (pendingLocales.putIfAbsent(locale, future) != null)
             return;
 
-        loadLocaleFile(locale);
-        loadedLocales.add(locale);
+        try {
+            Task.async(task -> {
+                try {
+                    future.complete(ensureLocaleLoaded(this.snapshot, locale));
+                } catch (Exception e) {
+                    logger.error("Failed to load locale {} in the background", locale.toLanguageTag(), e);
+                    future.completeExceptionally(e);
+                } finally {
+                    pendingLocales.remove(locale, future);
+                }
+            }, plugin);
+        } catch (IllegalPluginAccessException e) {
+            // The plugin is not enabled, the scheduler cannot be used
+            pendingLocales.remove(locale, future);
+            future.complete(ensureLocaleLoaded(this.snapshot, locale));
+        }
     }
 
     /**
      * Loads a single locale file from disk.
      *
      * @param locale The locale to load
+     * @return The loaded locale, without messages if the file does not exist or cannot be read
+     */
+    LangLocale loadLocale(Locale locale) {
+        return buildLocale(locale, readLocaleFile(locale));
+    }
+
+    /**
+     * Reads and flattens a single locale file from disk.
+     *
+     * @param locale The locale to read
+     * @return The content of the file, or null if it does not exist or cannot be read
      */
+    @Nullable
     @SuppressWarnings("java:S2629")
-    private void loadLocaleFile(Locale locale) {
+    private LocaleFile readLocaleFile(Locale locale) {
         String fileName = normalizeLocaleToFileName(locale);
         File langFile = new File(plugin.getDataFolder(), langDirectory + "/" + fileName);
 
         if (!langFile.exists()) {
             logger.debug("Language file not found for locale {}: {}", locale.toLanguageTag(), fileName);
-            return;
+            return null;
         }
 
-        try {
-            FileConfiguration config = YamlConfiguration.loadConfiguration(langFile);
+        if (compileBundles)
+            return readCompiledLocaleFile(locale, langFile);
 
-            // Load messages
-            Object2ObjectMap<String, String> localeMessages = new Object2ObjectOpenHashMap<>();
-            flattenConfiguration(config, "", localeMessages);
+        try (Reader reader = Files.newBufferedReader(langFile.toPath(), StandardCharsets.UTF_8)) {
+            // Load messages, streamed straight into flat keys
+            Object2ObjectMap<String, String> localeMessages = LangYamlReader.read(reader);
 
             if (!localeMessages.isEmpty()) {
-                messages.put(locale, localeMessages);
                 logger.info("Loaded {} messages for locale {} from {}",
                         localeMessages.size(), locale.toLanguageTag(), fileName);
             }
 
             // Load special tags
-            loadSpecialTags(locale, config);
+            return new LocaleFile(localeMessages, specialTagsFromMessages(locale, localeMessages));
+        } catch (Exception e) {
+            logger.error("Failed to load language file: {}", langFile.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads a locale file through its compiled bundle, compiling it first if it is missing or outdated.
+     *
+     * @param locale   The locale to read
+     * @param langFile The YAML file of the locale
+     * @return The content of the file, or null if it cannot be read
+     */
+    @Nullable
+    @SuppressWarnings("java:S2629")
+    private LocaleFile readCompiledLocaleFile(Locale locale, File langFile) {
+        Path bundlePath = langFile.toPath().resolveSibling(
+                normalizeLocaleToFileName(locale).replace(".yml", LangBundle.EXTENSION));
+
+        try {
+            // Read before the content, so that a change in between is caught by the next load
+            BasicFileAttributes attributes = Files.readAttributes(langFile.toPath(), BasicFileAttributes.class);
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+            byte[] content = null;
+            byte[] hash = null;
+
+            try {
+                // The source is only read and hashed if its size or modification time changed
+                LangBundle bundle = LangBundle.open(bundlePath, size, modified);
+                if (bundle == null) {
+                    content = Files.readAllBytes(langFile.toPath());
+                    hash = LangBundle.hash(content);
+                    bundle = LangBundle.open(bundlePath, hash);
+                }
+
+                if (bundle != null) {
+                    logger.info("Loaded {} messages for locale {} from {}",
+                            bundle.size(), locale.toLanguageTag(), bundlePath.getFileName());
+                    return new LocaleFile(bundle, specialTagsFromMessages(locale, bundle.withPrefix(LangUtils.SPECIAL_TAGS_PREFIX)));
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to read language bundle {}, recompiling it", bundlePath.getFileName(), e);
+            }
+
+            if (content == null || hash == null) {
+                content = Files.readAllBytes(langFile.toPath());
+                hash = LangBundle.hash(content);
+            }
+
+            Object2ObjectMap<String, String> localeMessages = LangYamlReader.read(
+                    new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8));
+
+            if (!localeMessages.isEmpty()) {
+                logger.info("Loaded {} messages for locale {} from {}",
+                        localeMessages.size(), locale.toLanguageTag(), langFile.getName());
+            }
+
+            try {
+                LangBundle.write(bundlePath, size, modified, hash, localeMessages);
+            } catch (IOException e) {
+                logger.warn("Failed to compile language bundle {}", bundlePath.getFileName(), e);
+            }
 
+            return new LocaleFile(localeMessages, specialTagsFromMessages(locale, localeMessages));
         } catch (Exception e) {
             logger.error("Failed to load language file: {}", langFile.getName(), e);
+            return null;
         }
     }
 
     /**
-     * Normalizes a Locale to a filename (e.g., en-US -> en_US.yml).
-     * Handles region and script subtags.
+     * Builds a locale from the content of its file.
      *
      * @param locale The locale
-     * @return The filename
+     * @param file   The content of the locale file, or null if there is none
+     * @return The built locale
      */
-    private String normalizeLocaleToFileName(Locale locale) {
-        return locale.toLanguageTag().replace('-', '_') + ".yml";
+    private LangLocale buildLocale(Locale locale, @Nullable LocaleFile file) {
+        metrics.recordLocaleLoad(locale);
+
+        if (file == null)
+            return LangLocale.missing(locale, customTagResolver);
+
+        LangLocale langLocale = new LangLocale(locale, true, file.messages(), file.specialTags(),
+                parseSounds(locale, file.messages()), buildTagResolver(locale, file.specialTags()));
+
+        if (prerender)
+            prerender(langLocale);
+
+        return langLocale;
     }
 
     /**
-     * Recursively flattens a YAML configuration into dot-separated keys.
+     * Renders every message of a locale that has no placeholders, in parallel on the common fork-join pool,
+     * before the locale is published. Messages using a tag that no resolver knows are left to be rendered on use.
      *
-     * @param section The configuration section to flatten
-     * @param prefix  Current key prefix
-     * @param output  Map to store flattened keys
+     * @param locale The locale
      */
-    private void flattenConfiguration(ConfigurationSection section,
-                                      String prefix,
-                                      Object2ObjectMap<String, String> output) {
-        for (String key : section.getKeys(false)) {
-            String fullKey = prefix.isEmpty() ? key : prefix + "." + key;
+    @SuppressWarnings("java:S2629")
+    private void prerender(LangLocale locale) {
+        long startNanos = System.nanoTime();
+        Map<String, Component> components = new ConcurrentHashMap<>();
+
+        locale.messages().object2ObjectEntrySet().parallelStream().forEach(entry -> {
+            String key = entry.getKey();
+            if (key.endsWith(LangUtils.SOUND_SUFFIX) || key.startsWith(LangUtils.SPECIAL_TAGS_PREFIX))
+                return;
+
+            Component component = prerenderMessage(locale, key, entry.getValue());
+            if (component != null)
+                components.put(key, component);
+        });
 
-            if (section.isString(key)) {
-                String value = section.getString(key);
-                if (value != null)
-                    output.put(fullKey, value);
-            } else if (section.isConfigurationSection(key)) {
-                ConfigurationSection child = section.getConfigurationSection(key);
-                if (child != null)
-                    flattenConfiguration(child, fullKey, output);
-            }
+        locale.prerendered(new Object2ObjectOpenHashMap<>(components));
+
+        logger.debug("Prerendered {} of {} messages for locale {} in {} ms",
+                components.size(),
+                locale.messages().size(),
+                locale.locale().toLanguageTag(),
+                (System.nanoTime() - startNanos) / 1_000_000D);
+    }
+
+    /**
+     * Renders a message ahead of time, unless it has placeholders.
+     *
+     * @param locale  The locale
+     * @param key     The message key (for error logging)
+     * @param message The message string
+     * @return The component, or null if the message uses a tag that no resolver knows
+     */
+    @Nullable
+    private Component prerenderMessage(LangLocale locale, String key, String message) {
+        UnknownTagDetector detector = new UnknownTagDetector();
+
+        try {
+            Component component = miniMessage.deserialize(message, createTagResolvers(locale, detector));
+            return detector.found ? null : component;
+        } catch (ParsingException e) {
+            logger.error("Failed to parse MiniMessage for key '{}' (locale: {}): {}",
+                    key, locale.locale().toLanguageTag(), message, e);
+            return Component.text(message);
         }
     }
 
     /**
-     * Loads special tag definitions for a locale.
+     * Normalizes a Locale to a filename (e.g., en-US -> en_US.yml).
+     * Handles region and script subtags.
      *
      * @param locale The locale
-     * @param config The configuration file
+     * @return The filename
      */
-    @SuppressWarnings("java:S2629")
-    private void loadSpecialTags(Locale locale, FileConfiguration config) {
-        ConfigurationSection specialSection = config.getConfigurationSection("special-tags");
-        if (specialSection == null)
-            return;
+    private String normalizeLocaleToFileName(Locale locale) {
+        return locale.toLanguageTag().replace('-', '_') + ".yml";
+    }
 
+    /**
+     * Loads special tag definitions for a locale from its flattened {@code special-tags.<category>.<tag>} messages.
+     *
+     * @param locale   The locale
+     * @param messages The flattened messages under {@value LangUtils#SPECIAL_TAGS_PREFIX}
+     * @return The special tags by category
+     */
+    @SuppressWarnings("java:S2629")
+    private Object2ObjectMap<String, Object2ObjectMap<String, String>> specialTagsFromMessages(Locale locale,
+                                                                                               Object2ObjectMap<String, String> messages) {
         Object2ObjectMap<String, Object2ObjectMap<String, String>> tagsByCategory = new Object2ObjectOpenHashMap<>();
 
-        for (String category : specialSection.getKeys(false)) {
-            ConfigurationSection categorySection = specialSection.getConfigurationSection(category);
-            if (categorySection == null)
+        for (Object2ObjectMap.Entry<String, String> entry : messages.object2ObjectEntrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(LangUtils.SPECIAL_TAGS_PREFIX))
                 continue;
 
-            Object2ObjectMap<String, String> categoryTags = new Object2ObjectOpenHashMap<>();
-            for (String tagKey : categorySection.getKeys(false)) {
-                String pattern = categorySection.getString(tagKey);
-                if (pattern != null)
-                    categoryTags.put(tagKey, pattern);
-            }
+            // special-tags.<category>.<tag>, deeper keys are not tags
+            String path = key.substring(LangUtils.SPECIAL_TAGS_PREFIX.length());
+            int separator = path.indexOf('.');
+            if (separator <= 0 || path.indexOf('.', separator + 1) >= 0)
+                continue;
 
-            if (!categoryTags.isEmpty())
-                tagsByCategory.put(category, categoryTags);
+            tagsByCategory.computeIfAbsent(path.substring(0, separator), category -> new Object2ObjectOpenHashMap<>())
+                    .put(path.substring(separator + 1), entry.getValue());
         }
 
         if (!tagsByCategory.isEmpty()) {
-            specialTags.put(locale, tagsByCategory);
             logger.debug("Loaded {} special tag categories for locale {}",
                     tagsByCategory.size(), locale.toLanguageTag());
         }
+
+        return tagsByCategory;
     }
 
     /**
      * Resolves the appropriate locale for an audience.
      *
+     * @param snapshot The snapshot seen by the caller
      * @param audience The audience (may be null)
      * @return The resolved locale
      */
-    private Locale resolveLocale(@Nullable Audience audience) {
-        if (usePlayerLocale && audience instanceof Player player) {
-            Locale playerLocale = player.locale();
-            ensureLocaleLoaded(playerLocale);
-            return playerLocale;
-        }
+    private LangLocale resolveLocale(LangSnapshot snapshot, @Nullable Audience audience) {
+        if (!snapshot.usePlayerLocale() || !(audience instanceof Player player))
+            return snapshot.defaultLangLocale();
+
+        // The head of the chain is the most specific locale with a language file
+        PlayerLocale tracked = playerLocales.get(player.getUniqueId());
+        if (tracked == null)
+            return resolveChain(snapshot, player.locale())[0];
+
+        LangLocale[] chain = tracked.chain();
+        if (chain != null && tracked.snapshot() == snapshot)
+            return chain[0];
 
-        return defaultLocale;
+        return resolvePlayerChain(snapshot, player.getUniqueId(), tracked.clientLocale())[0];
     }
 
     /**
-     * Gets a raw message string for a key.
+     * Resolves the chain of a tracked player and remembers it until the next snapshot, once all of its locales are loaded.
      *
-     * @param locale The locale
-     * @param key    The message key
-     * @return The raw message or fallback based on missingKeyBehavior
+     * @param snapshot     The snapshot seen by the caller
+     * @param uuid         The player UUID
+     * @param clientLocale The client locale of the player
+     * @return The loaded locales of the chain
      */
-    @SuppressWarnings("ConstantValue")
-    private String rawMessage(Locale locale, String key) {
-        // Try requested locale
-        Object2ObjectMap<String, String> localeMessages = messages.get(locale);
-        if (localeMessages != null && localeMessages.containsKey(key))
-            return localeMessages.get(key);
+    private LangLocale[] resolvePlayerChain(LangSnapshot snapshot, UUID uuid, Locale clientLocale) {
+        LangLocale[] chain = resolveChain(snapshot, clientLocale);
+        boolean complete = snapshot.chain(clientLocale) == chain;
 
-        // Fallback to default locale
-        if (!locale.equals(defaultLocale)) {
-            localeMessages = messages.get(defaultLocale);
-            if (localeMessages != null && localeMessages.containsKey(key))
-                return localeMessages.get(key);
-        }
+        // Never track again a player who quit in the meantime
+        playerLocales.computeIfPresent(uuid, (id, previous) -> complete
+                ? new PlayerLocale(clientLocale, snapshot, chain)
+                : new PlayerLocale(clientLocale, null, null));
 
-        // Key not found - apply missing key behavior
-        return handleMissingKey(key, locale);
+        return chain;
     }
 
     /**
-     * Handles missing key based on configured behavior.
+     * Tracks the client locale of a player, on join and whenever it changes,
+     * so that sending a message to them does not have to look it up.
      *
-     * @param key    The missing key
-     * @param locale The locale
-     * @return The fallback string
+     * @param uuid         The player UUID
+     * @param clientLocale The client locale of the player
      */
-    @SuppressWarnings("java:S2629")
-    private String handleMissingKey(String key, Locale locale) {
-        String result = switch (missingKeyBehavior) {
-            case RETURN_KEY -> key;
-            case RETURN_PLACEHOLDER -> "!" + key;
-            case RETURN_EMPTY -> "";
-            case LOG_WARNING -> {
-                logger.warn("Missing translation key '{}' for locale {}", key, locale.toLanguageTag());
-                yield key;
-            }
+    void trackPlayer(UUID uuid, Locale clientLocale) {
+        if (closed)
+            return;
+
+        playerLocales.put(uuid, new PlayerLocale(clientLocale, null, null));
+        preloadLocale(clientLocale);
+    }
+
+    /**
+     * Stops tracking a player, on quit.
+     *
+     * @param uuid The player UUID
+     */
+    void untrackPlayer(UUID uuid) {
+        playerLocales.remove(uuid);
+        display.remove(uuid);
+    }
+
+    /**
+     * Resolves the fallback chain of a client locale, once per snapshot.
+     * <p>
+     * Locales of the chain that are not loaded yet are loaded in the background (or on the calling thread if
+     * asynchronous loading is disabled), and skipped until they are.
+     * <p>
+     * A client locale without a language file whose chain differs from the chain of its first fallback
+     * (e.g. {@code fr_CA: [fr_QC, en_GB]}) heads its chain with an empty locale of its own. Messages are then
+     * cached under the client locale, and looking up a missing key walks the client chain instead of the
+     * chain of its first fallback.
+     *
+     * @param snapshot     The snapshot seen by the caller
+     * @param clientLocale The client locale
+     * @return The loaded locales of the chain, never empty as it always ends with the default locale
+     */
+    private LangLocale[] resolveChain(LangSnapshot snapshot, Locale clientLocale) {
+        LangLocale[] chain = snapshot.chain(clientLocale);
+        if (chain != null)
+            return chain;
+
+        ObjectList<Locale> locales = snapshot.fallbacks().chain(clientLocale);
+        ObjectList<LangLocale> loaded = new ObjectArrayList<>(locales.size());
+        boolean complete = true;
+
+        for (Locale locale : locales) {
+            LangLocale langLocale = snapshot.locale(locale);
+            if (langLocale == null) {
+                if (asyncLocaleLoading) {
+                    // Never read the file on the calling thread, skip the locale until it is loaded
+                    loadLocaleAsync(locale);
+                    complete = false;
+                    continue;
+                }
+
+                langLocale = ensureLocaleLoaded(snapshot, locale);
+            }
+
+            loaded.add(langLocale);
+        }
+
+        LangFallbacks fallbacks = snapshot.fallbacks();
+        if (!fallbacks.available(clientLocale) && !locales.equals(fallbacks.chain(locales.get(0))))
+            loaded.add(0, LangLocale.missing(clientLocale, loaded.get(0).tagResolver()));
+
+        chain = loaded.toArray(new LangLocale[0]);
+        if (complete)
+            snapshot.cacheChain(clientLocale, chain);
+
+        return chain;
+    }
+
+    /**
+     * Gets a raw message string for a key.
+     *
+     * @param snapshot The snapshot seen by the caller
+     * @param locale   The locale
+     * @param key      The message key
+     * @return The raw message or fallback based on missingKeyBehavior
+     */
+    private String rawMessage(LangSnapshot snapshot, LangLocale locale, String key) {
+        // Try requested locale
+        String message = locale.message(key);
+        if (message != null)
+            return message;
+
+        // Fallback through the chain of the locale, which heads the chain of its client locale, ending with the default locale
+        for (LangLocale fallback : resolveChain(snapshot, locale.locale())) {
+            if (fallback == locale)
+                continue;
+
+            message = fallback.message(key);
+            if (message != null)
+                return message;
+        }
+
+        // Key not found - apply missing key behavior
+        return handleMissingKey(key, locale.locale());
+    }
+
+    /**
+     * Gets a raw message string through its key handle.
+     *
+     * @param snapshot The snapshot seen by the caller
+     * @param locale   The locale
+     * @param key      The key handle
+     * @return The raw message or fallback based on missingKeyBehavior
+     */
+    private String rawMessage(LangSnapshot snapshot, LangLocale locale, LangKey key) {
+        String message = findMessage(snapshot, locale, key);
+        return message != null ? message : handleMissingKey(key.key(), locale.locale());
+    }
+
+    /**
+     * Finds a message through its key handle in a locale, then in its fallback chain.
+     *
+     * @param snapshot The snapshot seen by the caller
+     * @param locale   The locale
+     * @param key      The key handle
+     * @return The message, or null if neither locale defines it
+     */
+    @Nullable
+    private String findMessage(LangSnapshot snapshot, LangLocale locale, LangKey key) {
+        String message = locale.message(key);
+        if (message != null)
+            return message;
+
+        for (LangLocale fallback : resolveChain(snapshot, locale.locale())) {
+            if (fallback == locale)
+                continue;
+
+            message = fallback.message(key);
+            if (message != null)
+                return message;
+        }
+
+        return null;
+    }
+
+    /**
+     * Handles missing key based on configured behavior.
+     *
+     * @param key    The missing key
+     * @param locale The locale
+     * @return The fallback string
+     */
+    @SuppressWarnings("java:S2629")
+    private String handleMissingKey(String key, Locale locale) {
+        metrics.recordMissingKey(key);
+
+        String result = switch (missingKeyBehavior) {
+            case RETURN_KEY -> key;
+            case RETURN_PLACEHOLDER -> "!" + key;
+            case RETURN_EMPTY -> "";
+            case LOG_WARNING -> {
+                logger.warn("Missing translation key '{}' for locale {}", key, locale.toLanguageTag());
+                yield key;
+            }
         };
 
         logger.debug("Message key not found: {} (locale: {})", key, locale.toLanguageTag());
@@ -441,54 +1160,97 @@ public class Lang {
     }
 
     /**
-     * Creates tag resolvers for a locale, including special tags and custom placeholders.
+     * Builds the tag resolver of a locale once, when it loads: special tags are rendered
+     * and parsed ahead of time, then merged with the custom tag resolvers.
      *
-     * @param locale       The locale
-     * @param placeholders Additional placeholders to include
-     * @return Array of tag resolvers
+     * @param locale     The locale
+     * @param localeTags The special tags of the locale by category
+     * @return The tag resolver of the locale
      */
-    private TagResolver[] createTagResolvers(Locale locale, TagResolver... placeholders) {
-        Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags =
-                specialTags.getOrDefault(locale, Object2ObjectMaps.emptyMap());
-
+    @SuppressWarnings("java:S2629")
+    private TagResolver buildTagResolver(Locale locale,
+                                         Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags) {
         ObjectList<TagResolver> resolvers = new ObjectArrayList<>();
 
         // Prefix resolver
         Object2ObjectMap<String, String> prefixMap = localeTags.getOrDefault("prefix", Object2ObjectMaps.emptyMap());
         if (!prefixMap.isEmpty()) {
+            Object2ObjectMap<String, Tag> prefixes = new Object2ObjectOpenHashMap<>(prefixMap.size());
+            for (Object2ObjectMap.Entry<String, String> entry : prefixMap.object2ObjectEntrySet())
+                prefixes.put(entry.getKey(), Tag.inserting(parseSpecialTag(locale, "prefix", entry.getValue())));
+
+            Tag emptyPrefix = Tag.inserting(Component.empty());
             resolvers.add(TagResolver.resolver("prefix", (args, ctx) -> {
                 String id = args.popOr("prefix id required").value();
-                String pattern = prefixMap.getOrDefault(id, "");
-                return Tag.inserting(miniMessage.deserialize(pattern));
+                return prefixes.getOrDefault(id, emptyPrefix);
             }));
         }
 
         // Color resolver
         Object2ObjectMap<String, String> colorMap = localeTags.getOrDefault("kcolor", Object2ObjectMaps.emptyMap());
         if (!colorMap.isEmpty()) {
+            Object2ObjectMap<String, Tag> colors = new Object2ObjectOpenHashMap<>(colorMap.size());
+            for (Object2ObjectMap.Entry<String, String> entry : colorMap.object2ObjectEntrySet()) {
+                TextColor color = TextColor.fromHexString(entry.getValue());
+                if (color == null) {
+                    logger.warn("Invalid color '{}' for kcolor '{}' (locale: {})",
+                            entry.getValue(), entry.getKey(), locale.toLanguageTag());
+                    continue;
+                }
+
+                colors.put(entry.getKey(), Tag.styling(color));
+            }
+
+            Tag noColor = Tag.styling(builder -> {});
             resolvers.add(TagResolver.resolver("kcolor", (args, ctx) -> {
                 String id = args.popOr("color id required").value();
-                String hex = colorMap.get(id);
-                TextColor color = TextColor.fromHexString(hex);
-                return Tag.styling(builder -> builder.color(color));
+                return colors.getOrDefault(id, noColor);
             }));
         }
 
         // Other tags (separator, etc.)
         Object2ObjectMap<String, String> otherMap = localeTags.getOrDefault("other", Object2ObjectMaps.emptyMap());
         if (otherMap.containsKey("separator")) {
-            Component separator = miniMessage.deserialize(otherMap.get("separator"));
+            Component separator = parseSpecialTag(locale, "separator", otherMap.get("separator"));
             resolvers.add(Placeholder.component("separator", separator));
         }
 
         // Custom tag resolvers from the builder
-        resolvers.addAll(customTagResolvers.values());
+        resolvers.add(customTagResolver);
+
+        return TagResolver.resolver(resolvers);
+    }
+
+    /**
+     * Parses the pattern of a special tag.
+     *
+     * @param locale  The locale
+     * @param tag     The special tag (for error logging)
+     * @param pattern The MiniMessage pattern
+     * @return The parsed component
+     */
+    private Component parseSpecialTag(Locale locale, String tag, String pattern) {
+        try {
+            return miniMessage.deserialize(pattern);
+        } catch (ParsingException e) {
+            logger.error("Failed to parse special tag '{}' (locale: {}): {}", tag, locale.toLanguageTag(), pattern, e);
+            return Component.text(pattern);
+        }
+    }
 
-        // User-provided placeholders
-        if (placeholders.length > 0)
-            resolvers.addAll(ObjectArrayList.of(placeholders));
+    /**
+     * Creates tag resolvers for a locale: its prebuilt tag resolver followed by the given placeholders.
+     *
+     * @param locale       The locale
+     * @param placeholders Additional placeholders to include
+     * @return Array of tag resolvers
+     */
+    TagResolver[] createTagResolvers(LangLocale locale, TagResolver... placeholders) {
+        TagResolver[] resolvers = new TagResolver[placeholders.length + 1];
+        resolvers[0] = locale.tagResolver();
+        System.arraycopy(placeholders, 0, resolvers, 1, placeholders.length);
 
-        return resolvers.toArray(new TagResolver[0]);
+        return resolvers;
     }
 
     /**
@@ -500,19 +1262,111 @@ public class Lang {
      * @param placeholders Placeholder resolvers
      * @return The parsed component
      */
-    private Component parseComponent(Locale locale, String message,
+    private Component parseComponent(LangLocale locale, String message,
                                      String key, TagResolver... placeholders) {
+        TagResolver[] localized = localize(locale, placeholders);
+
         try {
-            TagResolver[] resolvers = createTagResolvers(locale, placeholders);
-            return miniMessage.deserialize(message, resolvers);
+            if (localized.length > 0) {
+                long templateStartNanos = System.nanoTime();
+                Component rendered = renderTemplate(locale, message, localized);
+                if (rendered != null) {
+                    metrics.recordTemplate(System.nanoTime() - templateStartNanos);
+                    return rendered;
+                }
+            }
+
+            TagResolver[] resolvers = createTagResolvers(locale, localized);
+            long parseStartNanos = System.nanoTime();
+            try {
+                return miniMessage.deserialize(message, resolvers);
+            } finally {
+                metrics.recordParse(System.nanoTime() - parseStartNanos);
+            }
         } catch (ParsingException e) {
             logger.error("Failed to parse MiniMessage for key '{}' (locale: {}): {}",
-                    key, locale.toLanguageTag(), message, e);
+                    key, locale.locale().toLanguageTag(), message, e);
             // Return the raw message as text rather than the key to show actual content
             return Component.text(message);
         }
     }
 
+    /**
+     * Formats the locale-aware placeholders for the locale a message is rendered in.
+     *
+     * @param locale       The locale
+     * @param placeholders Placeholder resolvers
+     * @return The placeholders, or a copy with every locale-aware placeholder formatted
+     */
+    private TagResolver[] localize(LangLocale locale, TagResolver... placeholders) {
+        TagResolver[] localized = placeholders;
+
+        for (int i = 0; i < placeholders.length; i++) {
+            if (!(placeholders[i] instanceof LangLocalizedPlaceholder placeholder))
+                continue;
+
+            if (localized == placeholders)
+                localized = placeholders.clone();
+
+            String[] durationUnits = placeholder.kind() == LangLocalizedPlaceholder.Kind.DURATION
+                    ? durationUnits(locale)
+                    : LangLocalizedPlaceholder.DEFAULT_DURATION_UNITS;
+            localized[i] = placeholder.localize(locale.locale(), durationUnits);
+        }
+
+        return localized;
+    }
+
+    /**
+     * Gets the duration unit suffixes of a locale, looked up through its fallback chain once per locale.
+     *
+     * @param locale The locale
+     * @return The suffixes, in the order of {@link LangLocalizedPlaceholder#DURATION_KEYS}
+     */
+    private String[] durationUnits(LangLocale locale) {
+        String[] units = locale.durationUnits();
+        if (units != null)
+            return units;
+
+        LangSnapshot snapshot = this.snapshot;
+        units = new String[LangLocalizedPlaceholder.DURATION_KEYS.length];
+        for (int i = 0; i < units.length; i++) {
+            String unit = findMessage(snapshot, locale, LangLocalizedPlaceholder.DURATION_KEYS[i]);
+            units[i] = unit != null ? unit : LangLocalizedPlaceholder.DEFAULT_DURATION_UNITS[i];
+        }
+
+        // Locales of the chain still loading may define them, look them up again next time
+        if (snapshot.chain(locale.locale()) != null)
+            locale.durationUnits(units);
+
+        return units;
+    }
+
+    /**
+     * Renders a message from its compiled template, compiling it on first use.
+     *
+     * @param locale       The locale
+     * @param message      The message string
+     * @param placeholders Placeholder resolvers
+     * @return The rendered component, or null if the message must go through the parser
+     */
+    @Nullable
+    private Component renderTemplate(LangLocale locale, String message, TagResolver... placeholders) {
+        Object2ObjectMap<String, Component> values = LangTemplate.slotValues(placeholders);
+        if (values == null)
+            return null;
+
+        ObjectList<String> names = new ObjectArrayList<>(values.keySet());
+        names.sort(null);
+
+        // Keyed by the message itself, as multi-line messages compile one template per line
+        LangCacheKey templateKey = new LangCacheKey(namespace, locale.locale(), message, names);
+        LangTemplate template = locale.templates().computeIfAbsent(templateKey,
+                k -> LangTemplate.compile(message, names, customTagResolver, createTagResolvers(locale)));
+
+        return template.compiled() ? template.render(values) : null;
+    }
+
     /**
      * Gets or creates a cached component using Caffeine cache.
      *
@@ -525,7 +1379,151 @@ public class Lang {
         if (componentCache == null)
             return supplier.get();
 
-        return ((Cache<LangCacheKey, Component>) componentCache).get(cacheKey, k -> supplier.get());
+        return getOrCache((Cache<LangCacheKey, Component>) componentCache, cacheKey, supplier);
+    }
+
+    /**
+     * Gets or creates a component in a cache, recording the hit or miss.
+     *
+     * @param cache    The cache
+     * @param cacheKey The cache key
+     * @param supplier The component supplier if not cached
+     * @return The component
+     */
+    private Component getOrCache(Cache<LangCacheKey, Component> cache, LangCacheKey cacheKey, Supplier<Component> supplier) {
+        long startNanos = System.nanoTime();
+        Component cached = cache.getIfPresent(cacheKey);
+        if (cached != null) {
+            metrics.recordHit(cacheKey.locale(), System.nanoTime() - startNanos);
+            return cached;
+        }
+
+        metrics.recordMiss(cacheKey.locale());
+        return cache.get(cacheKey, k -> supplier.get());
+    }
+
+    /**
+     * Gets or creates a component rendered with placeholders, cached on the placeholder values when enabled.
+     *
+     * @param snapshot     The snapshot seen by the caller
+     * @param locale       The locale
+     * @param key          The message key
+     * @param placeholders The placeholders
+     * @param supplier     The component supplier if not cached
+     * @return The component
+     */
+    @SuppressWarnings("unchecked")
+    private Component getOrCachePlaceholderComponent(LangSnapshot snapshot, LangLocale locale, String key,
+                                                     TagResolver[] placeholders, Supplier<Component> supplier) {
+        if (placeholderCache == null || !isSettled(snapshot, locale, key))
+            return supplier.get();
+
+        ObjectList<Object> values = placeholderValues(placeholders);
+        if (values == null)
+            return supplier.get();
+
+        LangCacheKey cacheKey = new LangCacheKey(namespace, locale.locale(), key, values);
+        return getOrCache((Cache<LangCacheKey, Component>) placeholderCache, cacheKey, supplier);
+    }
+
+    /**
+     * Gets or creates the component of a key handle without placeholders.
+     * The component is kept in the table of its locale, indexed by the handle, and dropped along with the locale.
+     *
+     * @param snapshot The snapshot seen by the caller
+     * @param locale   The locale
+     * @param key      The key handle
+     * @return The component
+     */
+    private Component getOrCacheComponent(LangSnapshot snapshot, LangLocale locale, LangKey key) {
+        long startNanos = System.nanoTime();
+        Component prerendered = locale.prerendered(key.key());
+        if (prerendered != null) {
+            metrics.recordHit(locale.locale(), System.nanoTime() - startNanos);
+            return prerendered;
+        }
+
+        if (cacheComponents) {
+            Component rendered = locale.rendered(key);
+            if (rendered != null) {
+                metrics.recordHit(locale.locale(), System.nanoTime() - startNanos);
+                return rendered;
+            }
+        }
+
+        if (!isSettled(snapshot, locale, key.key()))
+            return parseComponent(locale, rawMessage(snapshot, locale, key), key.key());
+
+        LangCacheKey cacheKey = new LangCacheKey(namespace, locale.locale(), key.key(), ObjectLists.emptyList());
+        Component component = getOrCacheComponent(cacheKey,
+                () -> parseComponent(locale, rawMessage(snapshot, locale, key), key.key()));
+
+        if (cacheComponents)
+            locale.rendered(key, component);
+
+        return component;
+    }
+
+    /**
+     * Gets or creates the component of a message, through the component cache without placeholders
+     * and through the placeholder cache with them.
+     *
+     * @param snapshot     The snapshot seen by the caller
+     * @param locale       The locale
+     * @param key          The message key
+     * @param placeholders Placeholder resolvers
+     * @return The component
+     */
+    private Component render(LangSnapshot snapshot, LangLocale locale, String key, TagResolver... placeholders) {
+        if (placeholders.length == 0)
+            return render(snapshot, locale, key);
+
+        return getOrCachePlaceholderComponent(snapshot, locale, key, placeholders,
+                () -> parseComponent(locale, rawMessage(snapshot, locale, key), key, placeholders));
+    }
+
+    /**
+     * Gets the component of a message without placeholders, prerendered when its locale loaded or through the component cache.
+     *
+     * @param snapshot The snapshot seen by the caller
+     * @param locale   The locale
+     * @param key      The message key
+     * @return The component
+     */
+    private Component render(LangSnapshot snapshot, LangLocale locale, String key) {
+        long startNanos = System.nanoTime();
+        Component prerendered = locale.prerendered(key);
+        if (prerendered != null) {
+            metrics.recordHit(locale.locale(), System.nanoTime() - startNanos);
+            return prerendered;
+        }
+
+        if (!isSettled(snapshot, locale, key))
+            return parseComponent(locale, rawMessage(snapshot, locale, key), key);
+
+        LangCacheKey cacheKey = new LangCacheKey(namespace, locale.locale(), key, ObjectLists.emptyList());
+        return getOrCacheComponent(cacheKey, () -> parseComponent(locale, rawMessage(snapshot, locale, key), key));
+    }
+
+    /**
+     * Checks whether a message resolves to what it will once every locale of the chain is loaded,
+     * so that its component can be cached under the locale.
+     * <p>
+     * A message of the locale itself always is. A message of a fallback is only once the whole chain is loaded:
+     * with {@link LangBuilder#asyncLocaleLoading(boolean)}, a fallback still loading is skipped
+     * and a less specific one would otherwise stay cached after it is published.
+     *
+     * @param snapshot The snapshot seen by the caller
+     * @param locale   The locale
+     * @param key      The message key
+     * @return Whether the component can be cached
+     */
+    private boolean isSettled(LangSnapshot snapshot, LangLocale locale, String key) {
+        if (locale.message(key) != null)
+            return true;
+
+        resolveChain(snapshot, locale.locale());
+        return snapshot.chain(locale.locale()) != null;
     }
 
     // ========== Public API ==========
@@ -538,7 +1536,9 @@ public class Lang {
      */
     public String getString(String key) {
         Preconditions.checkNotNull(key, "key cannot be null");
-        return rawMessage(defaultLocale, key);
+
+        LangSnapshot snapshot = this.snapshot;
+        return rawMessage(snapshot, snapshot.defaultLangLocale(), key);
     }
 
     /**
@@ -552,8 +1552,9 @@ public class Lang {
         Preconditions.checkNotNull(audience, "audience cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Locale locale = resolveLocale(audience);
-        return rawMessage(locale, key);
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = resolveLocale(snapshot, audience);
+        return rawMessage(snapshot, locale, key);
     }
 
     /**
@@ -565,7 +1566,9 @@ public class Lang {
      */
     public String getString(String key, Object... args) {
         Preconditions.checkNotNull(key, "key cannot be null");
-        return rawMessage(defaultLocale, key).formatted(args);
+
+        LangSnapshot snapshot = this.snapshot;
+        return rawMessage(snapshot, snapshot.defaultLangLocale(), key).formatted(args);
     }
 
     /**
@@ -580,8 +1583,37 @@ public class Lang {
         Preconditions.checkNotNull(audience, "audience cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Locale locale = resolveLocale(audience);
-        return rawMessage(locale, key).formatted(args);
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = resolveLocale(snapshot, audience);
+        return rawMessage(snapshot, locale, key).formatted(args);
+    }
+
+    /**
+     * Gets a raw message string (without MiniMessage parsing).
+     *
+     * @param key The key handle
+     * @return The raw message string
+     */
+    public String getString(LangKey key) {
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        return rawMessage(snapshot, snapshot.defaultLangLocale(), key);
+    }
+
+    /**
+     * Gets a raw message string for an audience (without MiniMessage parsing).
+     *
+     * @param audience The audience
+     * @param key      The key handle
+     * @return The raw message string
+     */
+    public String getString(Audience audience, LangKey key) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        return rawMessage(snapshot, resolveLocale(snapshot, audience), key);
     }
 
     /**
@@ -593,11 +1625,8 @@ public class Lang {
     public Component get(String key) {
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        LangCacheKey cacheKey = new LangCacheKey(defaultLocale, key, ObjectLists.emptyList());
-        return getOrCacheComponent(cacheKey, () -> {
-            String raw = rawMessage(defaultLocale, key);
-            return parseComponent(defaultLocale, raw, key);
-        });
+        LangSnapshot snapshot = this.snapshot;
+        return render(snapshot, snapshot.defaultLangLocale(), key);
     }
 
     /**
@@ -619,9 +1648,14 @@ public class Lang {
         Preconditions.checkNotNull(key, "key cannot be null");
         Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
 
-        // Don't cache with placeholders as they can vary
-        String raw = rawMessage(defaultLocale, key);
-        return parseComponent(defaultLocale, raw, key, placeholders);
+        // Placeholders are only cached on their values when enabled, the compiled template is reused otherwise
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = snapshot.defaultLangLocale();
+
+        return getOrCachePlaceholderComponent(snapshot, locale, key, placeholders, () -> {
+            String raw = rawMessage(snapshot, locale, key);
+            return parseComponent(locale, raw, key, placeholders);
+        });
     }
 
     /**
@@ -635,13 +1669,8 @@ public class Lang {
         Preconditions.checkNotNull(audience, "audience cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Locale locale = resolveLocale(audience);
-        LangCacheKey cacheKey = new LangCacheKey(locale, key, ObjectLists.emptyList());
-
-        return getOrCacheComponent(cacheKey, () -> {
-            String raw = rawMessage(locale, key);
-            return parseComponent(locale, raw, key);
-        });
+        LangSnapshot snapshot = this.snapshot;
+        return render(snapshot, resolveLocale(snapshot, audience), key);
     }
 
     /**
@@ -665,95 +1694,182 @@ public class Lang {
         Preconditions.checkNotNull(key, "key cannot be null");
         Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
 
-        Locale locale = resolveLocale(audience);
-        String raw = rawMessage(locale, key);
-        return parseComponent(locale, raw, key, placeholders);
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = resolveLocale(snapshot, audience);
+
+        return getOrCachePlaceholderComponent(snapshot, locale, key, placeholders, () -> {
+            String raw = rawMessage(snapshot, locale, key);
+            return parseComponent(locale, raw, key, placeholders);
+        });
     }
 
     /**
-     * Gets a message as a list of Components (for multi-line messages like lore).
+     * Gets a message as a Component.
      *
-     * @param key The message key
-     * @return List of components
+     * @param key The key handle
+     * @return The component
      */
-    public ObjectList<Component> getList(String key) {
+    public Component get(LangKey key) {
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        String raw = rawMessage(defaultLocale, key);
-        return splitAndParse(defaultLocale, raw, key);
+        LangSnapshot snapshot = this.snapshot;
+        return getOrCacheComponent(snapshot, snapshot.defaultLangLocale(), key);
     }
 
     /**
-     * Gets a message as a list of Components with placeholders.
+     * Gets a message as a Component with placeholders.
      *
-     * @param key          The message key
+     * @param key          The key handle
      * @param placeholders TagResolvers for placeholders
-     * @return List of components
+     * @return The component
      */
-    public ObjectList<Component> getList(String key, TagResolver... placeholders) {
+    public Component get(LangKey key, TagResolver... placeholders) {
         Preconditions.checkNotNull(key, "key cannot be null");
         Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
 
-        String raw = rawMessage(defaultLocale, key);
-        return splitAndParse(defaultLocale, raw, key, placeholders);
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = snapshot.defaultLangLocale();
+
+        return getOrCachePlaceholderComponent(snapshot, locale, key.key(), placeholders,
+                () -> parseComponent(locale, rawMessage(snapshot, locale, key), key.key(), placeholders));
     }
 
     /**
-     * Gets a message as a list of Components for an audience.
+     * Gets a message as a Component for an audience.
      *
      * @param audience The audience
-     * @param key      The message key
-     * @return List of components
+     * @param key      The key handle
+     * @return The component
      */
-    public ObjectList<Component> getList(Audience audience, String key) {
+    public Component get(Audience audience, LangKey key) {
         Preconditions.checkNotNull(audience, "audience cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Locale locale = resolveLocale(audience);
-        String raw = rawMessage(locale, key);
-        return splitAndParse(locale, raw, key);
+        LangSnapshot snapshot = this.snapshot;
+        return getOrCacheComponent(snapshot, resolveLocale(snapshot, audience), key);
     }
 
     /**
-     * Gets a message as a list of Components for an audience with placeholders.
+     * Gets a message as a Component for an audience with placeholders.
      *
      * @param audience     The audience
-     * @param key          The message key
+     * @param key          The key handle
      * @param placeholders TagResolvers for placeholders
-     * @return List of components
+     * @return The component
      */
-    public ObjectList<Component> getList(Audience audience, String key, TagResolver... placeholders) {
+    public Component get(Audience audience, LangKey key, TagResolver... placeholders) {
         Preconditions.checkNotNull(audience, "audience cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
         Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
 
-        Locale locale = resolveLocale(audience);
-        String raw = rawMessage(locale, key);
-        return splitAndParse(locale, raw, key, placeholders);
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = resolveLocale(snapshot, audience);
+
+        return getOrCachePlaceholderComponent(snapshot, locale, key.key(), placeholders,
+                () -> parseComponent(locale, rawMessage(snapshot, locale, key), key.key(), placeholders));
+    }
+
+    /**
+     * Gets a message as a list of Components (for multi-line messages like lore).
+     *
+     * @param key The message key
+     * @return Unmodifiable list of components, which may be shared between calls
+     */
+    public ObjectList<Component> getList(String key) {
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = snapshot.defaultLangLocale();
+        String raw = rawMessage(snapshot, locale, key);
+        return splitAndParse(locale, raw, key);
+    }
+
+    /**
+     * Gets a message as a list of Components with placeholders.
+     *
+     * @param key          The message key
+     * @param placeholders TagResolvers for placeholders
+     * @return Unmodifiable list of components, which may be shared between calls
+     */
+    public ObjectList<Component> getList(String key, TagResolver... placeholders) {
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = snapshot.defaultLangLocale();
+        String raw = rawMessage(snapshot, locale, key);
+        return splitAndParse(locale, raw, key, placeholders);
+    }
+
+    /**
+     * Gets a message as a list of Components for an audience.
+     *
+     * @param audience The audience
+     * @param key      The message key
+     * @return Unmodifiable list of components, which may be shared between calls
+     */
+    public ObjectList<Component> getList(Audience audience, String key) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = resolveLocale(snapshot, audience);
+        String raw = rawMessage(snapshot, locale, key);
+        return splitAndParse(locale, raw, key);
+    }
+
+    /**
+     * Gets a message as a list of Components for an audience with placeholders.
+     *
+     * @param audience     The audience
+     * @param key          The message key
+     * @param placeholders TagResolvers for placeholders
+     * @return Unmodifiable list of components, which may be shared between calls
+     */
+    public ObjectList<Component> getList(Audience audience, String key, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        LangLocale locale = resolveLocale(snapshot, audience);
+        String raw = rawMessage(snapshot, locale, key);
+        return splitAndParse(locale, raw, key, placeholders);
     }
 
     /**
      * Splits a multi-line message and parses each line.
+     * <p>
+     * Lines are split once per message. Without placeholders the parsed lines are cached on the locale,
+     * with placeholders each line is rendered from its compiled template.
      *
      * @param locale       The locale
      * @param message      The message
      * @param key          The message key
      * @param placeholders Placeholder resolvers
-     * @return List of components
+     * @return Unmodifiable list of components
      */
-    private ObjectList<Component> splitAndParse(Locale locale, String message,
+    private ObjectList<Component> splitAndParse(LangLocale locale, String message,
                                                 String key, TagResolver... placeholders) {
         if (message.isEmpty())
             return ObjectLists.emptyList();
 
-        String[] lines = LangUtils.NEWLINE_PATTERN.split(message, -1);
-        ObjectList<Component> components = new ObjectArrayList<>(lines.length);
+        // Keyed by the message, as the same key may resolve to a fallback message until its locale is loaded
+        if (placeholders.length == 0 && cacheComponents)
+            return locale.parsedLines().computeIfAbsent(message, m -> parseLines(locale, m, key));
 
-        for (String line : lines) {
-            components.add(parseComponent(locale, line, key, placeholders));
-        }
+        return parseLines(locale, message, key, placeholders);
+    }
 
-        return components;
+    private ObjectList<Component> parseLines(LangLocale locale, String message,
+                                             String key, TagResolver... placeholders) {
+        ObjectList<String> lines = locale.lines(message);
+        Component[] components = new Component[lines.size()];
+
+        for (int i = 0; i < components.length; i++)
+            components[i] = parseComponent(locale, lines.get(i), key, placeholders);
+
+        return ObjectLists.unmodifiable(ObjectArrayList.wrap(components));
     }
 
     /**
@@ -813,35 +1929,463 @@ public class Lang {
         Preconditions.checkNotNull(audience, "audience cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Component message = placeholders.length == 0 ? get(audience, key) : get(audience, key, placeholders);
+        LangSnapshot snapshot = this.snapshot;
+        long startNanos = System.nanoTime();
 
-        // Check if message is empty
-        if (message == Component.empty())
-            return;
+        try {
+            LangLocale locale = resolveLocale(snapshot, audience);
+            Component message = render(snapshot, locale, key, placeholders);
+
+            // Check if message is empty
+            if (message == Component.empty())
+                return;
+
+            audience.sendMessage(message);
+
+            // Handle sound
+            if (sound != null) {
+                audience.playSound(sound, Sound.Emitter.self());
+                return;
+            }
+
+            // Try to load sound from language file
+            Sound localeSound = findSound(snapshot, locale, key);
+            if (localeSound != null)
+                audience.playSound(localeSound, Sound.Emitter.self());
+        } finally {
+            metrics.recordSend(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Sends a message with placeholders to an audience, then plays the sound of its {@code <key>_sound} companion if any.
+     *
+     * @param audience     The audience
+     * @param key          The key handle
+     * @param placeholders TagResolvers for placeholders
+     * @see #sendMessage(Audience, Sound, String, TagResolver...)
+     */
+    public void sendMessage(Audience audience, LangKey key, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        long startNanos = System.nanoTime();
+
+        try {
+            LangLocale locale = resolveLocale(snapshot, audience);
+
+            Component message = placeholders.length == 0
+                    ? getOrCacheComponent(snapshot, locale, key)
+                    : getOrCachePlaceholderComponent(snapshot, locale, key.key(), placeholders,
+                    () -> parseComponent(locale, rawMessage(snapshot, locale, key), key.key(), placeholders));
 
-        audience.sendMessage(message);
+            if (message == Component.empty())
+                return;
 
-        // Handle sound
-        if (sound != null) {
-            audience.playSound(sound, Sound.Emitter.self());
+            audience.sendMessage(message);
+
+            Sound sound = findSound(snapshot, locale, key.key());
+            if (sound != null)
+                audience.playSound(sound, Sound.Emitter.self());
+        } finally {
+            metrics.recordSend(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Broadcasts a message to many audiences, rendering it once per locale instead of once per audience.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * lang.broadcast(Bukkit.getOnlinePlayers(), "event.start",
+     *     Lang.placeholder("event_name", eventName)
+     * );
+     * }</pre>
+     *
+     * @param audiences    The audiences
+     * @param key          The message key
+     * @param placeholders TagResolvers for placeholders
+     */
+    public void broadcast(Collection<? extends Audience> audiences, String key, TagResolver... placeholders) {
+        broadcast(audiences, null, key, placeholders);
+    }
+
+    /**
+     * Broadcasts a message to the audiences having a permission, rendering it once per locale.
+     *
+     * @param audiences    The audiences
+     * @param permission   The permission required to receive the message, or null to send it to every audience
+     * @param key          The message key
+     * @param placeholders TagResolvers for placeholders
+     */
+    public void broadcast(Collection<? extends Audience> audiences, @Nullable String permission,
+                          String key, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audiences, "audiences cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        long startNanos = System.nanoTime();
+
+        try {
+            for (Reference2ObjectMap.Entry<LangLocale, ObjectList<Audience>> group : groupByLocale(snapshot, audiences, permission)) {
+                LangLocale locale = group.getKey();
+                Component message = render(snapshot, locale, key, placeholders);
+
+                if (message == Component.empty())
+                    continue;
+
+                Audience members = Audience.audience(group.getValue());
+                members.sendMessage(message);
+
+                Sound sound = findSound(snapshot, locale, key);
+                if (sound != null)
+                    members.playSound(sound, Sound.Emitter.self());
+            }
+        } finally {
+            metrics.recordSend(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Broadcasts a message to many audiences, rendering it once per locale instead of once per audience.
+     *
+     * @param audiences    The audiences
+     * @param key          The key handle
+     * @param placeholders TagResolvers for placeholders
+     */
+    public void broadcast(Collection<? extends Audience> audiences, LangKey key, TagResolver... placeholders) {
+        broadcast(audiences, null, key, placeholders);
+    }
+
+    /**
+     * Broadcasts a message to the audiences having a permission, rendering it once per locale.
+     *
+     * @param audiences    The audiences
+     * @param permission   The permission required to receive the message, or null to send it to every audience
+     * @param key          The key handle
+     * @param placeholders TagResolvers for placeholders
+     */
+    public void broadcast(Collection<? extends Audience> audiences, @Nullable String permission,
+                          LangKey key, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audiences, "audiences cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        long startNanos = System.nanoTime();
+
+        try {
+            for (Reference2ObjectMap.Entry<LangLocale, ObjectList<Audience>> group : groupByLocale(snapshot, audiences, permission)) {
+                LangLocale locale = group.getKey();
+                Component message = placeholders.length == 0
+                        ? getOrCacheComponent(snapshot, locale, key)
+                        : getOrCachePlaceholderComponent(snapshot, locale, key.key(), placeholders,
+                        () -> parseComponent(locale, rawMessage(snapshot, locale, key), key.key(), placeholders));
+
+                if (message == Component.empty())
+                    continue;
+
+                Audience members = Audience.audience(group.getValue());
+                members.sendMessage(message);
+
+                Sound sound = findSound(snapshot, locale, key.key());
+                if (sound != null)
+                    members.playSound(sound, Sound.Emitter.self());
+            }
+        } finally {
+            metrics.recordSend(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Shows a message in the action bar of an audience.
+     * <p>
+     * Players get the last action bar sent within a tick, and only if it differs from the one they see.
+     * Other audiences get it right away.
+     *
+     * @param audience     The audience
+     * @param key          The message key
+     * @param placeholders TagResolvers for placeholders
+     */
+    public void sendActionBar(Audience audience, String key, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        long startNanos = System.nanoTime();
+
+        try {
+            audience.forEachAudience(member -> {
+                Component message = render(snapshot, resolveLocale(snapshot, member), key, placeholders);
+                if (message == Component.empty())
+                    return;
+
+                if (member instanceof Player player)
+                    display.actionBar(player, message);
+                else
+                    member.sendActionBar(message);
+            });
+            scheduleDisplayFlush();
+        } finally {
+            metrics.recordSend(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Shows a title to an audience.
+     * <p>
+     * Players get the last title shown within a tick, and only if it differs from the one they see
+     * or if that one has faded out. Other audiences get it right away.
+     *
+     * @param audience     The audience
+     * @param titleKey     The message key of the title
+     * @param subtitleKey  The message key of the subtitle, or null for no subtitle
+     * @param times        The fade in, stay and fade out times, or null for the defaults
+     * @param placeholders TagResolvers for placeholders, shared by the title and the subtitle
+     */
+    public void showTitle(Audience audience, String titleKey, @Nullable String subtitleKey,
+                          Title.@Nullable Times times, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+        Preconditions.checkNotNull(titleKey, "titleKey cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        long startNanos = System.nanoTime();
+
+        try {
+            audience.forEachAudience(member -> {
+                LangLocale locale = resolveLocale(snapshot, member);
+                Component title = render(snapshot, locale, titleKey, placeholders);
+                Component subtitle = subtitleKey != null ? render(snapshot, locale, subtitleKey, placeholders) : Component.empty();
+                Title shown = Title.title(title, subtitle, times);
+
+                if (member instanceof Player player)
+                    display.title(player, shown);
+                else
+                    member.showTitle(shown);
+            });
+            scheduleDisplayFlush();
+        } finally {
+            metrics.recordSend(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Clears the title of an audience, along with the titles queued for this tick.
+     *
+     * @param audience The audience
+     */
+    public void clearTitle(Audience audience) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+
+        audience.forEachAudience(member -> {
+            if (member instanceof Player player)
+                display.clearTitle(player);
+            else
+                member.clearTitle();
+        });
+        scheduleDisplayFlush();
+    }
+
+    /**
+     * Shows or updates a boss bar of the players of an audience.
+     * <p>
+     * Each player has its own boss bar per id, created on first use. Only the last update within a tick
+     * is applied, and only the properties that changed are sent. Audiences that are not players are ignored.
+     *
+     * @param audience     The audience
+     * @param id           The boss bar id, unique within this Lang instance
+     * @param key          The message key of the boss bar title
+     * @param progress     The progress, between 0 and 1
+     * @param color        The color
+     * @param overlay      The overlay
+     * @param placeholders TagResolvers for placeholders
+     */
+    public void showBossBar(Audience audience, String id, String key, float progress,
+                            BossBar.Color color, BossBar.Overlay overlay, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkArgument(progress >= BossBar.MIN_PROGRESS && progress <= BossBar.MAX_PROGRESS,
+                "progress must be between 0 and 1: %s", progress);
+        Preconditions.checkNotNull(color, "color cannot be null");
+        Preconditions.checkNotNull(overlay, "overlay cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        long startNanos = System.nanoTime();
+
+        try {
+            audience.forEachAudience(member -> {
+                if (!(member instanceof Player player))
+                    return;
+
+                Component name = render(snapshot, resolveLocale(snapshot, player), key, placeholders);
+                display.bossBar(player, id, new LangDisplay.BarUpdate(name, progress, color, overlay));
+            });
+            scheduleDisplayFlush();
+        } finally {
+            metrics.recordSend(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Hides a boss bar from the players of an audience.
+     *
+     * @param audience The audience
+     * @param id       The boss bar id
+     */
+    public void hideBossBar(Audience audience, String id) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+
+        audience.forEachAudience(member -> {
+            if (member instanceof Player player)
+                display.hideBossBar(player, id);
+        });
+        scheduleDisplayFlush();
+    }
+
+    /**
+     * Makes sure the queued display updates get flushed on the next tick, starting the flusher if it is not running.
+     * Updates are sent right away while the plugin is not enabled, as no task can be scheduled.
+     */
+    private void scheduleDisplayFlush() {
+        if (!plugin.isEnabled()) {
+            display.flush();
             return;
         }
 
-        // Try to load sound from language file
-        String soundKey = key + LangUtils.SOUND_SUFFIX;
+        synchronized (displayLock) {
+            if (displayFlusher != null)
+                return;
+
+            idleDisplayTicks = 0;
+            // Every tick
+            displayFlusher = Task.syncRepeat(this::flushDisplay, plugin, 50L, 50L, TimeUnit.MILLISECONDS);
+        }
+    }
 
-        if (!hasKey(soundKey))
-            return; // No sound defined
+    /**
+     * Flushes the queued display updates, and stops the flusher once nothing was queued for {@link #DISPLAY_IDLE_TICKS} ticks.
+     */
+    private void flushDisplay() {
+        if (display.flush()) {
+            idleDisplayTicks = 0;
+            return;
+        }
 
-        String soundString = getString(audience, soundKey);
-        if (soundString.isEmpty())
+        if (++idleDisplayTicks < DISPLAY_IDLE_TICKS)
             return;
 
-        sendSound(audience, soundString, soundKey);
+        synchronized (displayLock) {
+            // An update queued since the flush would otherwise wait for the next one
+            if (displayFlusher == null || display.hasPending())
+                return;
+
+            displayFlusher.cancel();
+            displayFlusher = null;
+        }
     }
 
-    @SuppressWarnings("PatternValidation")
-    private void sendSound(Audience audience, String soundString, String soundKey) {
+    /**
+     * Groups audiences by their resolved locale.
+     *
+     * @param snapshot   The snapshot seen by the caller
+     * @param audiences  The audiences
+     * @param permission The permission the audiences must have, or null to keep every audience
+     * @return The audiences by locale
+     */
+    private ObjectSet<Reference2ObjectMap.Entry<LangLocale, ObjectList<Audience>>> groupByLocale(LangSnapshot snapshot,
+                                                                                           Collection<? extends Audience> audiences,
+                                                                                           @Nullable String permission) {
+        Reference2ObjectMap<LangLocale, ObjectList<Audience>> groups = new Reference2ObjectOpenHashMap<>();
+
+        for (Audience audience : audiences) {
+            if (permission != null && !(audience instanceof Permissible permissible && permissible.hasPermission(permission)))
+                continue;
+
+            groups.computeIfAbsent(resolveLocale(snapshot, audience), locale -> new ObjectArrayList<>())
+                    .add(audience);
+        }
+
+        return groups.reference2ObjectEntrySet();
+    }
+
+    /**
+     * Finds the sound of a message in a locale, then in its fallback chain.
+     *
+     * @param snapshot The snapshot seen by the caller
+     * @param locale   The locale
+     * @param key      The message key
+     * @return The sound, or null if the message has none
+     */
+    @Nullable
+    private Sound findSound(LangSnapshot snapshot, LangLocale locale, String key) {
+        if (!snapshot.hasSound(key))
+            return null; // No sound defined
+
+        Sound sound = locale.sound(key);
+        if (sound != null)
+            return sound;
+
+        for (LangLocale fallback : resolveChain(snapshot, locale.locale())) {
+            if (fallback == locale)
+                continue;
+
+            sound = fallback.sound(key);
+            if (sound != null)
+                return sound;
+        }
+
+        return null;
+    }
+
+    /**
+     * Parses every {@code <key>_sound} message of a locale once, when it loads.
+     *
+     * @param locale   The locale
+     * @param messages The flattened messages of the locale
+     * @return The sounds by message key (without the sound suffix)
+     */
+    private Object2ObjectMap<String, Sound> parseSounds(Locale locale, Object2ObjectMap<String, String> messages) {
+        Object2ObjectMap<String, Sound> sounds = new Object2ObjectOpenHashMap<>();
+        // Bundles scan their mapped keys, so that no other message is decoded
+        Object2ObjectMap<String, String> soundMessages = messages instanceof LangBundle bundle
+                ? bundle.withSuffix(LangUtils.SOUND_SUFFIX)
+                : messages;
+
+        for (Object2ObjectMap.Entry<String, String> entry : soundMessages.object2ObjectEntrySet()) {
+            String soundKey = entry.getKey();
+            if (!soundKey.endsWith(LangUtils.SOUND_SUFFIX) || entry.getValue().isEmpty())
+                continue;
+
+            Sound sound = parseSound(locale, soundKey, entry.getValue());
+            if (sound != null)
+                sounds.put(soundKey.substring(0, soundKey.length() - LangUtils.SOUND_SUFFIX.length()), sound);
+        }
+
+        return sounds;
+    }
+
+    /**
+     * Parses a sound definition.
+     * <p>
+     * Sound Format: {@code <sound_key>;<source>;<volume>;<pitch>}
+     * <br>Lenient parsing: Accepts 1-4 parts with defaults (MASTER, 1.0, 1.0)
+     *
+     * @param locale      The locale (for error logging)
+     * @param soundKey    The key of the sound definition (for error logging)
+     * @param soundString The sound definition
+     * @return The sound, or null if it cannot be parsed
+     */
+    @Nullable
+    @SuppressWarnings({"PatternValidation", "java:S2629"})
+    private Sound parseSound(Locale locale, String soundKey, String soundString) {
         try {
             String[] parts = soundString.split(";");
 
@@ -855,7 +2399,8 @@ public class Lang {
                 try {
                     source = Sound.Source.valueOf(parts[1].trim().toUpperCase());
                 } catch (IllegalArgumentException e) {
-                    logger.warn("Invalid sound source '{}' for key '{}', using MASTER", parts[1].trim(), soundKey);
+                    logger.warn("Invalid sound source '{}' for key '{}' (locale: {}), using MASTER",
+                            parts[1].trim(), soundKey, locale.toLanguageTag());
                 }
             }
 
@@ -863,7 +2408,8 @@ public class Lang {
                 try {
                     volume = Float.parseFloat(parts[2].trim());
                 } catch (NumberFormatException e) {
-                    logger.warn("Invalid volume '{}' for key '{}', using 1.0", parts[2].trim(), soundKey);
+                    logger.warn("Invalid volume '{}' for key '{}' (locale: {}), using 1.0",
+                            parts[2].trim(), soundKey, locale.toLanguageTag());
                 }
             }
 
@@ -871,17 +2417,123 @@ public class Lang {
                 try {
                     pitch = Float.parseFloat(parts[3].trim());
                 } catch (NumberFormatException e) {
-                    logger.warn("Invalid pitch '{}' for key '{}', using 1.0", parts[3].trim(), soundKey);
+                    logger.warn("Invalid pitch '{}' for key '{}' (locale: {}), using 1.0",
+                            parts[3].trim(), soundKey, locale.toLanguageTag());
                 }
             }
 
             Key soundKeyParsed = Key.key(soundKeyStr);
-            Sound parsedSound = Sound.sound(soundKeyParsed, source, volume, pitch);
-            audience.playSound(parsedSound, Sound.Emitter.self());
-
+            return Sound.sound(soundKeyParsed, source, volume, pitch);
         } catch (Exception e) {
-            logger.error("Failed to parse sound for key '{}': {}", soundKey, soundString, e);
+            logger.error("Failed to parse sound for key '{}' (locale: {}): {}",
+                    soundKey, locale.toLanguageTag(), soundString, e);
+            return null;
+        }
+    }
+
+    /**
+     * Loads the fallback chain of a client locale in the background if it is not loaded yet.
+     * Until it is loaded, messages for this locale use the loaded part of its chain, or the default locale.
+     *
+     * @param locale The client locale to load
+     */
+    public void preloadLocale(Locale locale) {
+        Preconditions.checkNotNull(locale, "locale cannot be null");
+
+        LangSnapshot snapshot = this.snapshot;
+        if (snapshot.chain(locale) != null)
+            return;
+
+        for (Locale chainLocale : snapshot.fallbacks().chain(locale)) {
+            if (snapshot.locale(chainLocale) == null)
+                loadLocaleAsync(chainLocale);
+        }
+    }
+
+    /**
+     * Counts the online players using each locale, as their client locale or as a fallback of it.
+     * <p>
+     * Players are counted from the client locales tracked on join and locale change,
+     * so this is safe to call off the main thread.
+     *
+     * @return The number of online players by locale
+     */
+    public Object2IntMap<Locale> playersByLocale() {
+        LangSnapshot snapshot = this.snapshot;
+        Object2IntOpenHashMap<Locale> players = new Object2IntOpenHashMap<>();
+
+        if (!snapshot.usePlayerLocale()) {
+            players.put(snapshot.defaultLocale(), plugin.getServer().getOnlinePlayers().size());
+            return players;
+        }
+
+        for (PlayerLocale tracked : playerLocales.values()) {
+            for (Locale locale : snapshot.fallbacks().chain(tracked.clientLocale()))
+                players.addTo(locale, 1);
+        }
+
+        return players;
+    }
+
+    /**
+     * Unloads the non-default locales that no online player has used for the idle time set with
+     * {@link LangBuilder#unloadIdleLocales(Duration)}, along with their cached components.
+     * An unloaded locale is loaded again, from disk, the next time it is requested.
+     */
+    @SuppressWarnings({"unchecked", "java:S2629"})
+    void unloadIdleLocales() {
+        long now = System.nanoTime();
+        LangSnapshot current = this.snapshot;
+        Object2IntMap<Locale> players = playersByLocale();
+
+        ObjectList<LangLocale> idle = new ObjectArrayList<>();
+        for (LangLocale locale : current.locales().values()) {
+            if (locale.locale().equals(current.defaultLocale()))
+                continue;
+
+            if (players.getInt(locale.locale()) > 0)
+                locale.markUsed(now);
+            else if (now - locale.lastUsedNanos() >= idleLocaleNanos)
+                idle.add(locale);
         }
+
+        if (idle.isEmpty())
+            return;
+
+        ObjectSet<Locale> unloaded = new ObjectLinkedOpenHashSet<>();
+        synchronized (writeLock) {
+            LangSnapshot latest = this.snapshot;
+            for (LangLocale locale : idle) {
+                // Replaced by a reload in the meantime, it has not been idle for long
+                if (latest.locale(locale.locale()) != locale)
+                    continue;
+
+                latest = latest.without(locale.locale());
+                unloaded.add(locale.locale());
+            }
+
+            this.snapshot = latest;
+
+            Predicate<LangCacheKey> stale = cacheKey -> cacheKey.namespace().equals(namespace)
+                    && unloaded.contains(cacheKey.locale());
+
+            if (componentCache != null)
+                ((Cache<LangCacheKey, Component>) componentCache).asMap().keySet().removeIf(stale);
+
+            if (placeholderCache != null)
+                ((Cache<LangCacheKey, Component>) placeholderCache).asMap().keySet().removeIf(stale);
+        }
+
+        if (unloaded.isEmpty())
+            return;
+
+        for (Locale locale : unloaded)
+            metrics.recordLocaleUnload(locale);
+
+        logger.info("Unloaded {} idle locales for {}: {}",
+                unloaded.size(),
+                plugin.getName(),
+                unloaded.stream().map(Locale::toLanguageTag).collect(Collectors.joining(", ")));
     }
 
     /**
@@ -893,34 +2545,334 @@ public class Lang {
     public boolean hasKey(String key) {
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        synchronized (messages) {
-            for (Object2ObjectMap<String, String> localeMessages : messages.values())
-                if (localeMessages.containsKey(key))
-                    return true;
-
-            return false;
-        }
+        return snapshot.hasKey(key);
     }
 
     /**
      * Reloads all language files and configuration from disk.
      * Clears all caches and re-reads configs.
      * Don't forget to reload your plugin's config before calling this if you want to apply config changes (e.g., default locale, use-player-locale).
+     *
+     * @see #reload(boolean)
      */
-    @SuppressWarnings("unchecked")
     public void reload() {
+        reload(false);
+    }
+
+    /**
+     * Reloads all language files and configuration from disk, on the calling thread.
+     * <p>
+     * The new locales (default locale and every locale loaded so far) are fully read and built aside,
+     * then published at once: readers keep getting the previous messages until the swap and never see missing keys.
+     * Locales loaded meanwhile are read again before the swap instead of being dropped, and prewarming skips
+     * the components whose fallback chain is not loaded yet.
+     * Don't forget to reload your plugin's config before calling this if you want to apply config changes (e.g., default locale, use-player-locale).
+     *
+     * @param prewarm Whether to render again the components that were cached before the swap
+     * @return The timings of the reload
+     */
+    @SuppressWarnings({"unchecked", "java:S2629"})
+    public LangReloadReport reload(boolean prewarm) {
         logger.info("Reloading language files for {}", plugin.getName());
 
-        synchronized (this) {
-            messages.clear();
-            specialTags.clear();
-            loadedLocales.clear();
+        // Config and default files
+        long phaseStart = System.nanoTime();
+        FileConfiguration config = this.plugin.getConfig();
+        Locale defaultLocale = configuredDefaultLocale(config);
+        boolean usePlayerLocale = config.getBoolean("lang.use-player-locale", false);
+        saveDefaultLanguageFiles();
+        LangFallbacks fallbacks = loadFallbacks(config, defaultLocale);
+        long configNanos = System.nanoTime() - phaseStart;
+
+        // Language files
+        phaseStart = System.nanoTime();
+        ObjectSet<Locale> locales = new ObjectLinkedOpenHashSet<>();
+        locales.add(defaultLocale);
+        for (Locale locale : this.snapshot.locales().keySet()) {
+            if (fallbacks.available(locale))
+                locales.add(locale);
+        }
 
-            if (componentCache != null)
-                ((Cache<LangCacheKey, Component>) componentCache).invalidateAll();
+        if (loadAllLocales)
+            locales.addAll(fallbacks.available());
+
+        Object2ObjectMap<Locale, LocaleFile> files = new Object2ObjectLinkedOpenHashMap<>(locales.size());
+        if (loadAllLocales) {
+            // Every file is read again, independently, like at startup
+            Locale[] ordered = locales.toArray(new Locale[0]);
+            @Nullable LocaleFile[] read = new LocaleFile[ordered.length];
+            IntStream.range(0, ordered.length).parallel().forEach(i -> read[i] = readLocaleFile(ordered[i]));
+            for (int i = 0; i < ordered.length; i++)
+                files.put(ordered[i], read[i]);
+        } else {
+            for (Locale locale : locales)
+                files.put(locale, readLocaleFile(locale));
+        }
 
-            initialize();
+        long filesNanos = System.nanoTime() - phaseStart;
+
+        // Special tags
+        phaseStart = System.nanoTime();
+        ObjectList<LangLocale> langLocales = new ObjectArrayList<>(files.size());
+        for (Object2ObjectMap.Entry<Locale, LocaleFile> entry : files.object2ObjectEntrySet())
+            langLocales.add(buildLocale(entry.getKey(), entry.getValue()));
+
+        LangSnapshot newSnapshot = LangSnapshot.of(defaultLocale, usePlayerLocale, fallbacks, langLocales);
+        long tagsNanos = System.nanoTime() - phaseStart;
+
+        // Prewarm
+        phaseStart = System.nanoTime();
+        Object2ObjectMap<LangCacheKey, Component> prewarmed = prewarm ? prewarm(newSnapshot) : Object2ObjectMaps.emptyMap();
+        long prewarmNanos = System.nanoTime() - phaseStart;
+
+        // Swap
+        phaseStart = System.nanoTime();
+        while (true) {
+            // Locales loaded since the files were read would be dropped by the swap, they are read outside of the lock too
+            for (Locale locale : loadedSince(newSnapshot)) {
+                LangLocale langLocale = buildLocale(locale, readLocaleFile(locale));
+                langLocales.add(langLocale);
+                newSnapshot = newSnapshot.with(langLocale);
+            }
+
+            synchronized (writeLock) {
+                if (!loadedSince(newSnapshot).isEmpty())
+                    continue;
+
+                this.snapshot = newSnapshot;
+
+                if (registry != null) {
+                    // Only drop the components of this instance from the shared cache
+                    registry.invalidate(namespace);
+                } else if (componentCache != null) {
+                    ((Cache<LangCacheKey, Component>) componentCache).invalidateAll();
+                }
+
+                if (placeholderCache != null)
+                    ((Cache<LangCacheKey, Component>) placeholderCache).invalidateAll();
+
+                if (componentCache != null)
+                    ((Cache<LangCacheKey, Component>) componentCache).putAll(prewarmed);
+            }
+
+            break;
         }
+        long swapNanos = System.nanoTime() - phaseStart;
+
+        int messageCount = langLocales.stream()
+                .mapToInt(locale -> locale.messages().size())
+                .sum();
+
+        LangReloadReport report = new LangReloadReport(configNanos, filesNanos, tagsNanos, prewarmNanos, swapNanos,
+                langLocales.size(), messageCount, prewarmed.size());
+
+        logger.info("Reloaded language files for {}: {}", plugin.getName(), report);
+        return report;
+    }
+
+    /**
+     * Gets the locales published since a reload read the language files, that its snapshot is missing.
+     *
+     * @param newSnapshot The snapshot built by the reload
+     * @return The locales loaded in the published snapshot only, that still have a language file
+     */
+    private ObjectList<Locale> loadedSince(LangSnapshot newSnapshot) {
+        ObjectList<Locale> missing = new ObjectArrayList<>();
+        for (Locale locale : this.snapshot.locales().keySet()) {
+            if (newSnapshot.locale(locale) == null && newSnapshot.fallbacks().available(locale))
+                missing.add(locale);
+        }
+
+        return missing;
+    }
+
+    /**
+     * Reloads a single language file after it changed on disk, keeping the cached components of the keys that did not change.
+     * <p>
+     * The old and new messages are compared: only the cached components of changed keys are invalidated,
+     * in every locale as they may use this one as a fallback. If the special tags changed,
+     * every cached component of this locale is invalidated too.
+     * <p>
+     * The file is read outside of the write lock. If the locale or the fallbacks were replaced meanwhile,
+     * by a full reload, an unload or another change of the same file, the comparison is done again
+     * against the latest snapshot instead of publishing a locale built from a stale one.
+     *
+     * @param fileName The name of the language file (e.g., en_US.yml)
+     */
+    @SuppressWarnings({"unchecked", "java:S2629"})
+    void reloadLocaleFile(String fileName) {
+        Locale locale = parseLocale(fileName.substring(0, fileName.length() - ".yml".length()));
+
+        while (true) {
+            LangSnapshot current = this.snapshot;
+
+            // A language file was added or removed, chains must be resolved again
+            boolean exists = new File(new File(plugin.getDataFolder(), langDirectory), fileName).isFile();
+            LangFallbacks fallbacks = current.fallbacks().available(locale) != exists
+                    ? loadFallbacks(plugin.getConfig(), current.defaultLocale())
+                    : null;
+
+            LangLocale previous = current.locale(locale);
+            LangLocale updated = previous != null ? loadLocale(locale) : null;
+
+            ObjectSet<String> changedKeys = new ObjectOpenHashSet<>();
+            boolean tagsChanged = false;
+            if (previous != null && updated != null) {
+                for (Object2ObjectMap.Entry<String, String> entry : previous.messages().object2ObjectEntrySet()) {
+                    if (!entry.getValue().equals(updated.messages().get(entry.getKey())))
+                        changedKeys.add(entry.getKey());
+                }
+
+                for (String key : updated.messages().keySet()) {
+                    if (!previous.messages().containsKey(key))
+                        changedKeys.add(key);
+                }
+
+                tagsChanged = !previous.specialTags().equals(updated.specialTags());
+                if (!tagsChanged)
+                    updated.inheritCaches(previous);
+            }
+
+            if (fallbacks == null && updated == null)
+                return; // Neither loaded nor added or removed
+
+            synchronized (writeLock) {
+                LangSnapshot latest = this.snapshot;
+                if (latest.locale(locale) != previous || latest.fallbacks() != current.fallbacks())
+                    continue; // Built from a stale snapshot, compare against the latest one
+
+                if (fallbacks != null)
+                    latest = latest.withFallbacks(fallbacks);
+                if (updated != null)
+                    latest = latest.with(updated);
+
+                this.snapshot = latest;
+
+                // Other locales may have rendered the changed keys through their fallbacks
+                if (!changedKeys.isEmpty()) {
+                    for (LangLocale langLocale : latest.locales().values())
+                        langLocale.forgetRendered(changedKeys);
+                }
+
+                boolean invalidateLocale = tagsChanged;
+                Predicate<LangCacheKey> stale = cacheKey -> cacheKey.namespace().equals(namespace)
+                        && (changedKeys.contains(cacheKey.key()) || (invalidateLocale && cacheKey.locale().equals(locale)));
+
+                if (componentCache != null)
+                    ((Cache<LangCacheKey, Component>) componentCache).asMap().keySet().removeIf(stale);
+
+                if (placeholderCache != null)
+                    ((Cache<LangCacheKey, Component>) placeholderCache).asMap().keySet().removeIf(stale);
+            }
+
+            logger.info("Reloaded {} for {}: {} changed keys{}{}",
+                    fileName,
+                    plugin.getName(),
+                    changedKeys.size(),
+                    tagsChanged ? ", special tags changed" : "",
+                    fallbacks != null ? (exists ? ", file added" : ", file removed") : "");
+            return;
+        }
+    }
+
+    /**
+     * Stops tracking players and listening to their events,
+     * stops watching the language files, if {@link LangBuilder#watchFiles(boolean)} is enabled,
+     * unregisters this instance from the shared cache, if {@link LangBuilder#useSharedCache(boolean)} is enabled,
+     * and stops unloading idle locales, if {@link LangBuilder#unloadIdleLocales(Duration)} is set.
+     * Called automatically when the plugin owning this instance is disabled.
+     */
+    public void close() {
+        closed = true;
+
+        // A closed or replaced instance must not keep tracking players, nor stay reachable from the handler lists
+        if (listener != null)
+            HandlerList.unregisterAll(listener);
+
+        if (watcher != null)
+            watcher.close();
+
+        if (registry != null)
+            registry.unregister(this);
+
+        if (idleLocaleSweeper != null)
+            idleLocaleSweeper.cancel();
+
+        synchronized (displayLock) {
+            if (displayFlusher != null) {
+                displayFlusher.cancel();
+                displayFlusher = null;
+            }
+        }
+
+        display.clear();
+        playerLocales.clear();
+    }
+
+    /**
+     * Reloads all language files and configuration from disk, off the calling thread.
+     *
+     * @param prewarm Whether to render again the components that were cached before the swap
+     * @return A future completed with the timings of the reload once the new locales are published
+     * @see #reload(boolean)
+     */
+    public CompletableFuture<LangReloadReport> reloadAsync(boolean prewarm) {
+        CompletableFuture<LangReloadReport> future = new CompletableFuture<>();
+
+        Task.async(task -> {
+            try {
+                future.complete(reload(prewarm));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }, plugin);
+
+        return future;
+    }
+
+    /**
+     * Renders with a new snapshot every component currently cached, so the cache is warm right after the swap.
+     *
+     * @param newSnapshot The snapshot about to be published
+     * @return The rendered components by cache key
+     */
+    @SuppressWarnings("unchecked")
+    private Object2ObjectMap<LangCacheKey, Component> prewarm(LangSnapshot newSnapshot) {
+        if (componentCache == null)
+            return Object2ObjectMaps.emptyMap();
+
+        Object2ObjectMap<LangCacheKey, Component> components = new Object2ObjectOpenHashMap<>();
+        for (LangCacheKey cacheKey : ((Cache<LangCacheKey, Component>) componentCache).asMap().keySet()) {
+            // Components with placeholders and components of other plugins sharing the cache are not prewarmed
+            if (!cacheKey.namespace().equals(namespace) || !cacheKey.placeholders().isEmpty())
+                continue;
+
+            // Resolving the chain must never load a locale into a snapshot that is not published yet
+            LangLocale locale = newSnapshot.locale(cacheKey.locale());
+            if (locale == null || !isChainLoaded(newSnapshot, locale.locale()))
+                continue;
+
+            String raw = rawMessage(newSnapshot, locale, cacheKey.key());
+            components.put(cacheKey, parseComponent(locale, raw, cacheKey.key()));
+        }
+
+        return components;
+    }
+
+    /**
+     * Checks whether every locale of the fallback chain of a locale is loaded in a snapshot.
+     *
+     * @param snapshot The snapshot
+     * @param locale   The locale
+     * @return Whether resolving the chain would load no locale
+     */
+    private static boolean isChainLoaded(LangSnapshot snapshot, Locale locale) {
+        for (Locale fallback : snapshot.fallbacks().chain(locale)) {
+            if (snapshot.locale(fallback) == null)
+                return false;
+        }
+
+        return true;
     }
 
     /**
@@ -930,40 +2882,75 @@ public class Lang {
      */
     @SuppressWarnings("unchecked")
     public String cacheStats() {
-        int totalMessages;
-        synchronized (messages) {
-            totalMessages = messages.values().stream()
-                    .mapToInt(Object2ObjectMap::size)
-                    .sum();
+        LangSnapshot snapshot = this.snapshot;
+        int totalMessages = snapshot.locales().values().stream()
+                .mapToInt(locale -> locale.messages().size())
+                .sum();
+
+        String placeholderStats = "";
+        if (placeholderCache != null) {
+            Cache<LangCacheKey, Component> cache = (Cache<LangCacheKey, Component>) placeholderCache;
+            placeholderStats = ", Placeholder Cache: size=%d, weight=%d, hitRate=%.2f%%".formatted(
+                    cache.estimatedSize(),
+                    cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L),
+                    cache.stats().hitRate() * 100D
+            );
         }
 
         if (componentCache == null)
-            return "Lang Stats [%s] - Locales: %d, Messages: %d, Component Cache: disabled".formatted(
+            return "Lang Stats [%s] - Locales: %d, Messages: %d, Component Cache: disabled%s".formatted(
                     plugin.getName(),
-                    loadedLocales.size(),
-                    totalMessages
+                    snapshot.locales().size(),
+                    totalMessages,
+                    placeholderStats
             );
 
-        CacheStats stats = ((Cache<LangCacheKey, Component>) componentCache).stats();
+        Cache<LangCacheKey, Component> cache = (Cache<LangCacheKey, Component>) componentCache;
+        CacheStats stats = cache.stats();
+        String bytes = cache.policy().eviction()
+                .filter(Policy.Eviction::isWeighted)
+                .map(eviction -> ", bytes=%d/%d".formatted(eviction.weightedSize().orElse(0L), eviction.getMaximum()))
+                .orElse("");
 
-        return "Lang Stats [%s] - Locales: %d, Messages: %d, Cache: size=%d, hits=%d, misses=%d, hitRate=%.2f%%".formatted(
+        return "Lang Stats [%s] - Locales: %d, Messages: %d, Cache: size=%d%s, hits=%d, misses=%d, hitRate=%.2f%%%s".formatted(
                 plugin.getName(),
-                loadedLocales.size(),
+                snapshot.locales().size(),
                 totalMessages,
-                ((Cache<LangCacheKey, Component>) componentCache).estimatedSize(),
+                cache.estimatedSize(),
+                bytes,
                 stats.hitCount(),
                 stats.missCount(),
-                stats.hitRate() * 100D
+                stats.hitRate() * 100D,
+                placeholderStats
         );
     }
 
+    /**
+     * Gets the always-on metrics of this instance: per-locale cache counters,
+     * parse, cache hit and send latencies, and missing key lookups.
+     *
+     * @return The metrics
+     */
+    public LangMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the namespace of the components of this instance in a shared cache.
+     *
+     * @return The name of the plugin owning this instance and its lang directory, {@code plugin:directory}
+     */
+    String namespace() {
+        return namespace;
+    }
+
     /**
      * Gets the current default locale.
      *
      * @return The default locale
      */
     public Locale defaultLocale() {
-        return defaultLocale;
+        return snapshot.defaultLocale();
     }
 
     /**
@@ -972,7 +2959,7 @@ public class Lang {
      * @return True if player locales are used
      */
     public boolean usePlayerLocale() {
-        return usePlayerLocale;
+        return snapshot.usePlayerLocale();
     }
 
     /**
@@ -981,6 +2968,48 @@ public class Lang {
      * @return Unmodifiable set of loaded locales
      */
     public ObjectSet<Locale> loadedLocales() {
-        return ObjectSets.unmodifiable(loadedLocales);
+        return ObjectSets.unmodifiable(snapshot.locales().keySet());
+    }
+
+    /**
+     * Content of a language file, before its special tags are built.
+     *
+     * @param messages    The flattened messages
+     * @param specialTags The special tags by category
+     */
+    private record LocaleFile(Object2ObjectMap<String, String> messages,
+                              Object2ObjectMap<String, Object2ObjectMap<String, String>> specialTags) {
+    }
+
+    /**
+     * Client locale of a tracked player, with its chain once resolved against a snapshot.
+     * The chain is resolved again as soon as a new snapshot is published.
+     *
+     * @param clientLocale The client locale of the player
+     * @param snapshot     The snapshot the chain was resolved against, or null if not resolved yet
+     * @param chain        The loaded locales of the chain, or null if not resolved yet
+     */
+    private record PlayerLocale(Locale clientLocale,
+                                @Nullable LangSnapshot snapshot,
+                                LangLocale @Nullable [] chain) {
+    }
+
+    /**
+     * Last tag resolver of a prerender, asked only for the tags that no other resolver knows,
+     * which are the placeholders of the message.
+     */
+    private static final class UnknownTagDetector implements TagResolver {
+        private boolean found;
+
+        @Override
+        public @Nullable Tag resolve(String name, ArgumentQueue arguments, Context ctx) {
+            return null;
+        }
+
+        @Override
+        public boolean has(String name) {
+            found = true;
+            return false;
+        }
     }
 }
\ No newline at end of file
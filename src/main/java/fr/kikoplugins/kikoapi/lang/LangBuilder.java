@@ -22,10 +22,22 @@ public class LangBuilder {
     final Object2ObjectMap<String, TagResolver> customTagResolvers = new Object2ObjectOpenHashMap<>();
     @Nullable Logger logger;
     boolean cacheComponents = true;
+    boolean useSharedCache = false;
     int maxCacheSize = LangUtils.DEFAULT_MAX_CACHE;
+    long maxCacheWeightBytes = 0;
     @Nullable Duration cacheExpireAfterAccess = LangUtils.DEFAULT_CACHE_EXPIRE;
     @Nullable Duration cacheExpireAfterWrite = null;
     boolean recordStats = false;
+    boolean cachePlaceholders = false;
+    int maxPlaceholderCacheSize = LangUtils.DEFAULT_MAX_PLACEHOLDER_CACHE;
+    long maxPlaceholderCacheWeight = LangUtils.DEFAULT_MAX_PLACEHOLDER_CACHE_WEIGHT;
+    boolean asyncLocaleLoading = false;
+    boolean compileBundles = false;
+    boolean prerender = false;
+    boolean loadAllLocales = false;
+    boolean watchFiles = false;
+    Duration watchDebounce = LangUtils.DEFAULT_WATCH_DEBOUNCE;
+    @Nullable Duration unloadIdleLocales = null;
     MissingKeyBehavior missingKeyBehavior = MissingKeyBehavior.RETURN_KEY;
     String langDirectory = "lang";
 
@@ -47,6 +59,27 @@ public class LangBuilder {
         return this;
     }
 
+    /**
+     * Stores the components of this instance without placeholders in the cache shared by every plugin, hosted by KikoAPI,
+     * instead of a cache of its own. The shared cache has a single memory budget set in the KikoAPI config
+     * and its own expiry, so {@link #maxCacheSize(int)}, {@link #maxCacheWeightBytes(long)},
+     * {@link #cacheExpireAfterAccess(Duration)}, {@link #cacheExpireAfterWrite(Duration)} and {@link #recordStats(boolean)}
+     * are ignored for these components. The placeholder cache, if enabled, stays per instance with its own limits.
+     * <p>
+     * Components are namespaced by plugin and lang directory, so a plugin may share the cache from several instances
+     * reading different directories; building a second instance for the same directory fails until the first is closed.
+     * Requires the plugin to be enabled when building. Disabled by default.
+     *
+     * @param shared Whether to use the shared cache
+     * @return This builder
+     * @see LangRegistry
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder useSharedCache(boolean shared) {
+        this.useSharedCache = shared;
+        return this;
+    }
+
     @Contract(value = "_ -> this", mutates = "this")
     public LangBuilder maxCacheSize(int size) {
         Preconditions.checkArgument(size > 0, "size must be positive");
@@ -55,6 +88,21 @@ public class LangBuilder {
         return this;
     }
 
+    /**
+     * Bounds the component cache by the estimated retained size of its components instead of their number,
+     * so a long multi-line message weighs more than a short one. Replaces {@link #maxCacheSize(int)} when set.
+     *
+     * @param bytes The maximum retained size of the cached components in bytes
+     * @return This builder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder maxCacheWeightBytes(long bytes) {
+        Preconditions.checkArgument(bytes > 0, "bytes must be positive");
+
+        this.maxCacheWeightBytes = bytes;
+        return this;
+    }
+
     @Contract(value = "_ -> this", mutates = "this")
     public LangBuilder cacheExpireAfterAccess(@Nullable Duration duration) {
         this.cacheExpireAfterAccess = duration;
@@ -73,6 +121,139 @@ public class LangBuilder {
         return this;
     }
 
+    /**
+     * Caches components rendered with placeholders, keyed on the placeholder names and values.
+     * Only worth it for placeholders with few distinct values (ranks, team colors, arena names...).
+     * Placeholders without a comparable value (e.g. custom tag resolvers) are never cached.
+     *
+     * @param cache Whether to cache components rendered with placeholders
+     * @return This builder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder cachePlaceholders(boolean cache) {
+        this.cachePlaceholders = cache;
+        return this;
+    }
+
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder maxPlaceholderCacheSize(int size) {
+        Preconditions.checkArgument(size > 0, "size must be positive");
+
+        this.maxPlaceholderCacheSize = size;
+        return this;
+    }
+
+    /**
+     * Sets the maximum weight of the placeholder cache, the estimated retained size in bytes
+     * of the cached keys, placeholder values and components.
+     *
+     * @param weight The maximum weight in bytes
+     * @return This builder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder maxPlaceholderCacheWeight(long weight) {
+        Preconditions.checkArgument(weight > 0, "weight must be positive");
+
+        this.maxPlaceholderCacheWeight = weight;
+        return this;
+    }
+
+    /**
+     * Loads player locales in the background (on first use) instead of on the calling thread.
+     * Messages for a locale that is not loaded yet then use its fallbacks, ultimately the default locale,
+     * until the language file is read. Disabled by default: the calling thread reads it on first use.
+     * Either way, locales are preloaded in the background as soon as a player joins or changes locale.
+     *
+     * @param async Whether to load player locales asynchronously
+     * @return This builder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder asyncLocaleLoading(boolean async) {
+        this.asyncLocaleLoading = async;
+        return this;
+    }
+
+    /**
+     * Compiles each language file into a binary bundle stored next to it and memory-maps it on the next load.
+     * A bundle is recompiled whenever the content of its language file changes. Disabled by default.
+     *
+     * @param compile Whether to compile language files into bundles
+     * @return This builder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder compileBundles(boolean compile) {
+        this.compileBundles = compile;
+        return this;
+    }
+
+    /**
+     * Renders every message without placeholders as soon as its locale loads, in parallel,
+     * so the first lookups after startup or a reload do not parse anything.
+     * MiniMessage errors are logged up front. Disabled by default.
+     *
+     * @param prerender Whether to render the messages without placeholders when a locale loads
+     * @return This builder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder prerender(boolean prerender) {
+        this.prerender = prerender;
+        return this;
+    }
+
+    /**
+     * Loads every language file of the language directory at startup and on reload, instead of only the default locale.
+     * The files are read in parallel on the common fork-join pool, and the load time of each file is logged at startup.
+     * Disabled by default.
+     *
+     * @param loadAll Whether to load every language file at startup
+     * @return This builder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder loadAllLocales(boolean loadAll) {
+        this.loadAllLocales = loadAll;
+        return this;
+    }
+
+    /**
+     * Watches the language directory and reloads a language file as soon as it changes on disk.
+     * Only the cached components of the keys (or special tags) that changed are invalidated.
+     * Requires the plugin to be enabled when building. Disabled by default.
+     *
+     * @param watch Whether to watch the language files
+     * @return This builder
+     * @see Lang#close()
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder watchFiles(boolean watch) {
+        this.watchFiles = watch;
+        return this;
+    }
+
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder watchDebounce(Duration debounce) {
+        Preconditions.checkNotNull(debounce, "debounce cannot be null");
+        Preconditions.checkArgument(!debounce.isNegative(), "debounce cannot be negative");
+
+        this.watchDebounce = debounce;
+        return this;
+    }
+
+    /**
+     * Unloads the non-default locales that no online player has used for the given time,
+     * along with their messages, special tags and cached components. They are loaded again when next requested.
+     * Requires the plugin to be enabled when building. Disabled by default.
+     *
+     * @param idleTime The time a locale must be unused before it is unloaded, or null to keep locales loaded
+     * @return This builder
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder unloadIdleLocales(@Nullable Duration idleTime) {
+        Preconditions.checkArgument(idleTime == null || idleTime.isPositive(), "idleTime must be positive");
+
+        this.unloadIdleLocales = idleTime;
+        return this;
+    }
+
     @Contract(value = "_ -> this", mutates = "this")
     public LangBuilder missingKeyBehavior(MissingKeyBehavior behavior) {
         Preconditions.checkNotNull(behavior, "behavior cannot be null");
@@ -106,7 +287,20 @@ public class LangBuilder {
         return this;
     }
 
+    /**
+     * Builds the instance and loads its default locale.
+     * <p>
+     * An instance built before its plugin is enabled is not closed when the plugin is disabled,
+     * so it can neither watch files, use the shared cache nor unload idle locales: nothing would ever stop them.
+     *
+     * @return The instance
+     * @throws IllegalStateException If one of these options is set and the plugin is not enabled yet
+     */
     public Lang build() {
+        Preconditions.checkState(plugin.isEnabled() || (!watchFiles && !useSharedCache && unloadIdleLocales == null),
+                "%s must be enabled to build a Lang instance that watches files, uses the shared cache or unloads idle locales",
+                plugin.getName());
+
         return new Lang(this);
     }
 }
@@ -0,0 +1,520 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.AbstractObject2ObjectMap;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Compiled form of a language file: a key table sorted by UTF-8 bytes and a UTF-8 string pool,
+ * memory-mapped and read as a map.
+ * <p>
+ * Lookups binary search the mapped key table without decoding it, and strings are only decoded
+ * the first time they are read: iterating the keys or the entries does not decode the values.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * int      magic
+ * int      version
+ * long     size of the source file
+ * long     last modified time of the source file, in nanoseconds
+ * byte[32] SHA-256 of the source file
+ * int      entry count
+ * entry count x (int key offset, int key length, int value offset, int value length)
+ * byte[]   string pool, offsets are relative to its start
+ * </pre>
+ */
+@NullMarked
+final class LangBundle extends AbstractObject2ObjectMap<String, String> {
+    static final String EXTENSION = ".bundle";
+
+    private static final int MAGIC = 0x4B4C4E47; // KLNG
+    private static final int VERSION = 2;
+    private static final int HASH_LENGTH = 32;
+    private static final int SOURCE_SIZE_OFFSET = 8;
+    private static final int SOURCE_MODIFIED_OFFSET = SOURCE_SIZE_OFFSET + 8;
+    private static final int HASH_OFFSET = SOURCE_MODIFIED_OFFSET + 8;
+    private static final int SIZE_OFFSET = HASH_OFFSET + HASH_LENGTH;
+    private static final int HEADER_LENGTH = SIZE_OFFSET + 4;
+    private static final int ENTRY_LENGTH = 4 * 4;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int poolOffset;
+    // Strings are immutable, so racing threads at worst decode the same string twice
+    private final @Nullable String[] keys;
+    private final @Nullable String[] values;
+    private @Nullable ObjectSet<Object2ObjectMap.Entry<String, String>> entrySet;
+    private @Nullable ObjectSet<String> keySet;
+
+    private LangBundle(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+        this.poolOffset = HEADER_LENGTH + size * ENTRY_LENGTH;
+        this.keys = new String[size];
+        this.values = new String[size];
+    }
+
+    /**
+     * Hashes the content of a source file.
+     *
+     * @param content The content of the source file
+     * @return The SHA-256 hash of the content
+     */
+    static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Maps a compiled bundle, if it exists and was compiled from a source file of the same size and modification time.
+     * This does not read the source file, but cannot tell a file rewritten with the same size within the precision
+     * of the file system clock: {@link #open(Path, byte[])} is the fallback when it returns null.
+     *
+     * @param path           The path of the bundle
+     * @param sourceSize     The size of the current source file
+     * @param sourceModified The last modified time of the current source file, in nanoseconds
+     * @return The bundle, or null if it does not exist, may be outdated or is corrupted
+     * @throws IOException If the bundle cannot be read
+     */
+    @Nullable
+    static LangBundle open(Path path, long sourceSize, long sourceModified) throws IOException {
+        ByteBuffer buffer = map(path);
+        if (buffer == null
+                || buffer.getLong(SOURCE_SIZE_OFFSET) != sourceSize
+                || buffer.getLong(SOURCE_MODIFIED_OFFSET) != sourceModified)
+            return null;
+
+        return open(buffer);
+    }
+
+    /**
+     * Maps a compiled bundle, if it exists and was compiled from the given source.
+     *
+     * @param path       The path of the bundle
+     * @param sourceHash The hash of the current source file
+     * @return The bundle, or null if it does not exist, is outdated or is corrupted
+     * @throws IOException If the bundle cannot be read
+     */
+    @Nullable
+    static LangBundle open(Path path, byte[] sourceHash) throws IOException {
+        ByteBuffer buffer = map(path);
+        if (buffer == null)
+            return null;
+
+        byte[] hash = new byte[HASH_LENGTH];
+        buffer.get(HASH_OFFSET, hash);
+        if (!MessageDigest.isEqual(hash, sourceHash))
+            return null;
+
+        return open(buffer);
+    }
+
+    /**
+     * Maps a bundle file and checks its format.
+     *
+     * @param path The path of the bundle
+     * @return The mapped bundle, or null if it does not exist or is not a bundle of this version
+     * @throws IOException If the bundle cannot be read
+     */
+    @Nullable
+    private static ByteBuffer map(Path path) throws IOException {
+        if (!Files.isRegularFile(path))
+            return null;
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_LENGTH || length > Integer.MAX_VALUE)
+                return null;
+
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            return null;
+
+        return buffer;
+    }
+
+    @Nullable
+    private static LangBundle open(ByteBuffer buffer) {
+        int size = buffer.getInt(SIZE_OFFSET);
+        if (size < 0 || size > (buffer.capacity() - HEADER_LENGTH) / ENTRY_LENGTH)
+            return null;
+
+        LangBundle bundle = new LangBundle(buffer, size);
+        return bundle.validate() ? bundle : null;
+    }
+
+    /**
+     * Compiles messages into a bundle file, replacing it atomically.
+     *
+     * @param path           The path of the bundle
+     * @param sourceSize     The size of the source file the messages were read from
+     * @param sourceModified The last modified time of the source file, in nanoseconds
+     * @param sourceHash     The hash of the source file
+     * @param messages       The flattened messages
+     * @throws IOException If the bundle cannot be written
+     */
+    static void write(Path path, long sourceSize, long sourceModified, byte[] sourceHash,
+                      Map<String, String> messages) throws IOException {
+        int size = messages.size();
+        byte[][] keys = new byte[size][];
+        byte[][] values = new byte[size][];
+
+        int index = 0;
+        for (Map.Entry<String, String> entry : messages.entrySet()) {
+            keys[index] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            values[index] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            index++;
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(keys[a], keys[b]));
+
+        long poolLength = 0;
+        for (int i = 0; i < size; i++)
+            poolLength += keys[i].length + values[i].length;
+
+        long totalLength = HEADER_LENGTH + (long) size * ENTRY_LENGTH + poolLength;
+        if (totalLength > Integer.MAX_VALUE)
+            throw new IOException("Language bundle too large: " + totalLength + " bytes");
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) totalLength);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(sourceSize).putLong(sourceModified).put(sourceHash).putInt(size);
+
+        int poolPosition = 0;
+        for (int i : order) {
+            buffer.putInt(poolPosition).putInt(keys[i].length);
+            poolPosition += keys[i].length;
+            buffer.putInt(poolPosition).putInt(values[i].length);
+            poolPosition += values[i].length;
+        }
+
+        for (int i : order)
+            buffer.put(keys[i]).put(values[i]);
+
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, buffer.array());
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Gets the entries whose key starts with a prefix, decoded into a new map.
+     *
+     * @param prefix The key prefix
+     * @return The matching entries
+     */
+    Object2ObjectMap<String, String> withPrefix(String prefix) {
+        byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+        Object2ObjectMap<String, String> result = new Object2ObjectOpenHashMap<>();
+
+        // Keys are sorted, so every match directly follows the lower bound of the prefix
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKey(mid, prefixBytes) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        for (int i = low; i < size && keyStartsWith(i, prefixBytes); i++)
+            result.put(key(i), value(i));
+
+        return result;
+    }
+
+    /**
+     * Gets the entries whose key ends with a suffix, decoded into a new map.
+     * Only the values of the matching entries are decoded.
+     *
+     * @param suffix The key suffix
+     * @return The matching entries
+     */
+    Object2ObjectMap<String, String> withSuffix(String suffix) {
+        byte[] suffixBytes = suffix.getBytes(StandardCharsets.UTF_8);
+        Object2ObjectMap<String, String> result = new Object2ObjectOpenHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            if (keyEndsWith(i, suffixBytes))
+                result.put(key(i), value(i));
+        }
+
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return key instanceof String string && indexOf(string) >= 0;
+    }
+
+    @Override
+    @Nullable
+    public String get(@Nullable Object key) {
+        if (!(key instanceof String string))
+            return null;
+
+        int index = indexOf(string);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public ObjectSet<Object2ObjectMap.Entry<String, String>> object2ObjectEntrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractObjectSet<>() {
+                @Override
+                public ObjectIterator<Object2ObjectMap.Entry<String, String>> iterator() {
+                    return new ObjectIterator<>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < size;
+                        }
+
+                        @Override
+                        public Object2ObjectMap.Entry<String, String> next() {
+                            if (!hasNext())
+                                throw new NoSuchElementException();
+
+                            return new LazyEntry(index++);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public ObjectSet<String> keySet() {
+        if (keySet == null) {
+            keySet = new AbstractObjectSet<>() {
+                @Override
+                public ObjectIterator<String> iterator() {
+                    return new ObjectIterator<>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < size;
+                        }
+
+                        @Override
+                        public String next() {
+                            if (!hasNext())
+                                throw new NoSuchElementException();
+
+                            return key(index++);
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(@Nullable Object key) {
+                    return containsKey(key);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        return keySet;
+    }
+
+    private boolean validate() {
+        long poolLength = buffer.capacity() - (long) poolOffset;
+        for (int i = 0; i < size; i++) {
+            int entry = HEADER_LENGTH + i * ENTRY_LENGTH;
+            for (int field = 0; field < ENTRY_LENGTH; field += 8) {
+                int offset = buffer.getInt(entry + field);
+                int length = buffer.getInt(entry + field + 4);
+                if (offset < 0 || length < 0 || (long) offset + length > poolLength)
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int indexOf(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareKey(mid, keyBytes);
+
+            if (comparison < 0)
+                low = mid + 1;
+            else if (comparison > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+
+        return -1;
+    }
+
+    private int compareKey(int index, byte[] other) {
+        int entry = HEADER_LENGTH + index * ENTRY_LENGTH;
+        int offset = poolOffset + buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+
+        int common = Math.min(length, other.length);
+        for (int i = 0; i < common; i++) {
+            int comparison = Byte.compareUnsigned(buffer.get(offset + i), other[i]);
+            if (comparison != 0)
+                return comparison;
+        }
+
+        return Integer.compare(length, other.length);
+    }
+
+    private boolean keyStartsWith(int index, byte[] prefix) {
+        int entry = HEADER_LENGTH + index * ENTRY_LENGTH;
+        int offset = poolOffset + buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        if (length < prefix.length)
+            return false;
+
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean keyEndsWith(int index, byte[] suffix) {
+        int entry = HEADER_LENGTH + index * ENTRY_LENGTH;
+        int length = buffer.getInt(entry + 4);
+        if (length < suffix.length)
+            return false;
+
+        int offset = poolOffset + buffer.getInt(entry) + length - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (buffer.get(offset + i) != suffix[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private String key(int index) {
+        String key = keys[index];
+        if (key == null) {
+            key = decode(HEADER_LENGTH + index * ENTRY_LENGTH);
+            keys[index] = key;
+        }
+
+        return key;
+    }
+
+    private String value(int index) {
+        String value = values[index];
+        if (value == null) {
+            value = decode(HEADER_LENGTH + index * ENTRY_LENGTH + 8);
+            values[index] = value;
+        }
+
+        return value;
+    }
+
+    private String decode(int field) {
+        int offset = poolOffset + buffer.getInt(field);
+        int length = buffer.getInt(field + 4);
+
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * An entry that decodes its key and its value on first access.
+     */
+    private final class LazyEntry implements Object2ObjectMap.Entry<String, String> {
+        private final int index;
+
+        private LazyEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return key(index);
+        }
+
+        @Override
+        public String getValue() {
+            return value(index);
+        }
+
+        @Override
+        public String setValue(String value) {
+            throw new UnsupportedOperationException("Language bundles are read-only");
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            return other instanceof Map.Entry<?, ?> entry
+                    && getKey().equals(entry.getKey())
+                    && getValue().equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
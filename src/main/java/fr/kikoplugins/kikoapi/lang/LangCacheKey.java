@@ -7,18 +7,32 @@ import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Locale;
-import java.util.Objects;
 
 @NullMarked
 public class LangCacheKey {
+    private final String namespace;
     private final Locale locale;
     private final String key;
     private final ObjectList<?> placeholders;
+    private final int hash;
 
-    LangCacheKey(Locale locale, String key, ObjectList<?> placeholders) {
+    LangCacheKey(String namespace, Locale locale, String key, ObjectList<?> placeholders) {
+        this.namespace = namespace;
         this.locale = locale;
         this.key = key;
-        this.placeholders = ObjectLists.unmodifiable(new ObjectArrayList<>(placeholders));
+        this.placeholders = placeholders.isEmpty()
+                ? ObjectLists.emptyList()
+                : ObjectLists.unmodifiable(new ObjectArrayList<>(placeholders));
+        this.hash = 31 * (31 * (31 * namespace.hashCode() + locale.hashCode()) + key.hashCode()) + this.placeholders.hashCode();
+    }
+
+    /**
+     * Gets the namespace of the Lang instance this key belongs to, the name of its plugin and its lang directory.
+     *
+     * @return The namespace
+     */
+    public String namespace() {
+        return namespace;
     }
 
     public Locale locale() {
@@ -41,17 +55,15 @@ public class LangCacheKey {
         if (!(o instanceof LangCacheKey that))
             return false;
 
-        return locale.equals(that.locale)
+        return hash == that.hash
+                && namespace.equals(that.namespace)
+                && locale.equals(that.locale)
                 && key.equals(that.key)
                 && placeholders.equals(that.placeholders);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-                locale,
-                key,
-                placeholders
-        );
+        return hash;
     }
 }
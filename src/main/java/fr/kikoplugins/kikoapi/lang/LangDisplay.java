@@ -0,0 +1,275 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player action bar, title and boss bar state of a {@link Lang} instance.
+ * <p>
+ * Updates are queued and flushed once per tick: only the last update of each channel within a tick is sent,
+ * and an update equal to what the player already sees is dropped. Action bars fade out on the client,
+ * so an unchanged action bar is still sent again every {@link #ACTION_BAR_REFRESH_TICKS} ticks,
+ * and an unchanged title once it has faded out. Ticks are counted on the wall clock, like the client does,
+ * so that they keep counting while nothing is queued and no task flushes the updates.
+ */
+@NullMarked
+final class LangDisplay {
+    // The client shows an action bar for 60 ticks, refresh it before it starts fading
+    static final long ACTION_BAR_REFRESH_TICKS = 40L;
+    private static final long MILLIS_PER_TICK = 50L;
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(MILLIS_PER_TICK);
+
+    private final Map<UUID, Channels> channels = new ConcurrentHashMap<>();
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+
+    void actionBar(Player player, Component component) {
+        channels(player).actionBar(component);
+        dirty.add(player.getUniqueId());
+    }
+
+    void title(Player player, Title title) {
+        channels(player).title(title);
+        dirty.add(player.getUniqueId());
+    }
+
+    void clearTitle(Player player) {
+        channels(player).clearTitle();
+        dirty.add(player.getUniqueId());
+    }
+
+    void bossBar(Player player, String id, BarUpdate update) {
+        channels(player).bossBar(id, update);
+        dirty.add(player.getUniqueId());
+    }
+
+    void hideBossBar(Player player, String id) {
+        Channels playerChannels = channels.get(player.getUniqueId());
+        if (playerChannels == null)
+            return;
+
+        playerChannels.hideBossBar(id);
+        dirty.add(player.getUniqueId());
+    }
+
+    /**
+     * Sends the pending updates of every player, called once per tick on the main thread.
+     *
+     * @return Whether any update was pending
+     */
+    boolean flush() {
+        return flush(System.nanoTime() / NANOS_PER_TICK);
+    }
+
+    /**
+     * Sends the pending updates of every player.
+     *
+     * @param tick The current tick
+     * @return Whether any update was pending
+     */
+    boolean flush(long tick) {
+        boolean pending = false;
+
+        Iterator<UUID> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            UUID uuid = iterator.next();
+            iterator.remove();
+            pending = true;
+
+            Channels playerChannels = channels.get(uuid);
+            if (playerChannels == null)
+                continue;
+
+            // Updates queued from another thread after the player quit must not keep their entry alive
+            if (!playerChannels.player.isOnline()) {
+                channels.remove(uuid, playerChannels);
+                continue;
+            }
+
+            playerChannels.flush(tick);
+        }
+
+        return pending;
+    }
+
+    /**
+     * Checks whether updates are waiting for the next flush.
+     *
+     * @return Whether any update is pending
+     */
+    boolean hasPending() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Forgets a player, on quit. Boss bars go away with the client connection.
+     *
+     * @param uuid The player UUID
+     */
+    void remove(UUID uuid) {
+        channels.remove(uuid);
+        dirty.remove(uuid);
+    }
+
+    /**
+     * Hides every boss bar and forgets every player, when the Lang instance is closed.
+     */
+    void clear() {
+        for (Channels playerChannels : channels.values())
+            playerChannels.hideAll();
+
+        channels.clear();
+        dirty.clear();
+    }
+
+    private Channels channels(Player player) {
+        Channels playerChannels = channels.computeIfAbsent(player.getUniqueId(), uuid -> new Channels(player));
+        // A player that relogged before its quit was processed gets a new entity
+        playerChannels.player = player;
+        return playerChannels;
+    }
+
+    /**
+     * A boss bar update.
+     *
+     * @param name     The boss bar title
+     * @param progress The progress, between 0 and 1
+     * @param color    The color
+     * @param overlay  The overlay
+     */
+    record BarUpdate(Component name, float progress, BossBar.Color color, BossBar.Overlay overlay) {
+    }
+
+    private static final class Channels {
+        private volatile Player player;
+
+        @Nullable
+        private Component pendingActionBar;
+        @Nullable
+        private Component lastActionBar;
+        private long lastActionBarTick;
+
+        @Nullable
+        private Title pendingTitle;
+        private boolean pendingClearTitle;
+        @Nullable
+        private Title lastTitle;
+        private long titleEndTick;
+
+        private final Object2ObjectMap<String, BarUpdate> pendingBars = new Object2ObjectOpenHashMap<>();
+        private final ObjectSet<String> pendingHides = new ObjectOpenHashSet<>();
+        private final Object2ObjectMap<String, BossBar> bars = new Object2ObjectOpenHashMap<>();
+
+        private Channels(Player player) {
+            this.player = player;
+        }
+
+        private synchronized void actionBar(Component component) {
+            pendingActionBar = component;
+        }
+
+        private synchronized void title(Title title) {
+            pendingTitle = title;
+        }
+
+        private synchronized void clearTitle() {
+            pendingTitle = null;
+            pendingClearTitle = true;
+        }
+
+        private synchronized void bossBar(String id, BarUpdate update) {
+            pendingHides.remove(id);
+            pendingBars.put(id, update);
+        }
+
+        private synchronized void hideBossBar(String id) {
+            pendingBars.remove(id);
+            pendingHides.add(id);
+        }
+
+        private synchronized void flush(long tick) {
+            Player target = player;
+
+            if (pendingActionBar != null) {
+                if (!pendingActionBar.equals(lastActionBar) || tick - lastActionBarTick >= ACTION_BAR_REFRESH_TICKS) {
+                    target.sendActionBar(pendingActionBar);
+                    lastActionBar = pendingActionBar;
+                    lastActionBarTick = tick;
+                }
+
+                pendingActionBar = null;
+            }
+
+            if (pendingClearTitle) {
+                target.clearTitle();
+                lastTitle = null;
+                pendingClearTitle = false;
+            }
+
+            if (pendingTitle != null) {
+                if (!pendingTitle.equals(lastTitle) || tick >= titleEndTick) {
+                    target.showTitle(pendingTitle);
+                    lastTitle = pendingTitle;
+                    titleEndTick = tick + durationTicks(pendingTitle);
+                }
+
+                pendingTitle = null;
+            }
+
+            for (String id : pendingHides) {
+                BossBar bar = bars.remove(id);
+                if (bar != null)
+                    target.hideBossBar(bar);
+            }
+            pendingHides.clear();
+
+            for (Object2ObjectMap.Entry<String, BarUpdate> entry : pendingBars.object2ObjectEntrySet()) {
+                BarUpdate update = entry.getValue();
+                BossBar bar = bars.get(entry.getKey());
+                if (bar == null) {
+                    bar = BossBar.bossBar(update.name(), update.progress(), update.color(), update.overlay());
+                    bars.put(entry.getKey(), bar);
+                    target.showBossBar(bar);
+                    continue;
+                }
+
+                // Every change is its own packet, only send the ones that differ
+                if (!bar.name().equals(update.name()))
+                    bar.name(update.name());
+                if (bar.progress() != update.progress())
+                    bar.progress(update.progress());
+                if (bar.color() != update.color())
+                    bar.color(update.color());
+                if (bar.overlay() != update.overlay())
+                    bar.overlay(update.overlay());
+            }
+            pendingBars.clear();
+        }
+
+        private synchronized void hideAll() {
+            for (BossBar bar : bars.values())
+                player.hideBossBar(bar);
+
+            bars.clear();
+        }
+
+        private static long durationTicks(Title title) {
+            Title.Times times = title.times() != null ? title.times() : Title.DEFAULT_TIMES;
+            return (times.fadeIn().toMillis() + times.stay().toMillis() + times.fadeOut().toMillis()) / MILLIS_PER_TICK;
+        }
+    }
+}
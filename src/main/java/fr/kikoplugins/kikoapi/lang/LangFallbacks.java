@@ -0,0 +1,122 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.objects.ObjectLists;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectSets;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Resolves a client locale into the chain of language files to read its messages from.
+ * <p>
+ * A chain is made of, in order and without duplicates:
+ * <ol>
+ *     <li>The client locale, if it has a language file</li>
+ *     <li>Its configured fallbacks, followed recursively</li>
+ *     <li>If the client locale has no language file, the best language file of the same language
+ *     (e.g. {@code fr_FR} for {@code fr_CA}), the default locale being the best of its own language</li>
+ *     <li>The default locale</li>
+ * </ol>
+ * Locales without a language file are skipped, so resolving a chain never touches the disk.
+ */
+@NullMarked
+final class LangFallbacks {
+    private final Locale defaultLocale;
+    private final ObjectSet<Locale> available;
+    private final Object2ObjectMap<Locale, ObjectList<Locale>> configured;
+    private final Object2ObjectMap<String, Locale> byLanguage;
+
+    LangFallbacks(Locale defaultLocale,
+                  ObjectSet<Locale> available,
+                  Object2ObjectMap<Locale, ObjectList<Locale>> configured) {
+        this.defaultLocale = defaultLocale;
+        this.available = ObjectSets.unmodifiable(available);
+        this.configured = Object2ObjectMaps.unmodifiable(configured);
+        this.byLanguage = new Object2ObjectOpenHashMap<>();
+
+        ObjectList<Locale> sorted = new ObjectArrayList<>(available);
+        sorted.sort(Comparator.comparing(Locale::toLanguageTag));
+        for (Locale locale : sorted) {
+            Locale best = byLanguage.get(locale.getLanguage());
+            if (best == null || languageScore(locale, defaultLocale) > languageScore(best, defaultLocale))
+                byLanguage.put(locale.getLanguage(), locale);
+        }
+    }
+
+    /**
+     * Scores how well a language file represents its whole language: the default locale beats
+     * a language-only file ({@code fr}), which beats the "main" country ({@code fr_FR}), which beats any other.
+     */
+    private static int languageScore(Locale locale, Locale defaultLocale) {
+        if (locale.equals(defaultLocale))
+            return 3;
+
+        if (locale.getCountry().isEmpty())
+            return 2;
+
+        return locale.getCountry().equalsIgnoreCase(locale.getLanguage()) ? 1 : 0;
+    }
+
+    /**
+     * Checks if a locale has a language file.
+     *
+     * @param locale The locale
+     * @return True if the locale has a language file
+     */
+    boolean available(Locale locale) {
+        return available.contains(locale);
+    }
+
+    /**
+     * Gets every locale with a language file.
+     *
+     * @return The unmodifiable locales
+     */
+    ObjectSet<Locale> available() {
+        return available;
+    }
+
+    /**
+     * Resolves the chain of locales to read the messages of a client locale from.
+     *
+     * @param clientLocale The client locale
+     * @return The locales with a language file, most specific first, always ending with the default locale
+     */
+    ObjectList<Locale> chain(Locale clientLocale) {
+        ObjectList<Locale> chain = new ObjectArrayList<>(4);
+        ObjectSet<Locale> visited = new ObjectOpenHashSet<>();
+
+        follow(clientLocale, chain, visited);
+
+        // A language match only stands in for a client locale that has no language file of its own
+        if (!available.contains(clientLocale) && !clientLocale.equals(defaultLocale)) {
+            Locale languageMatch = byLanguage.get(clientLocale.getLanguage());
+            if (languageMatch != null)
+                follow(languageMatch, chain, visited);
+        }
+
+        if (!chain.contains(defaultLocale))
+            chain.add(defaultLocale);
+
+        return chain;
+    }
+
+    private void follow(Locale locale, ObjectList<Locale> chain, ObjectSet<Locale> visited) {
+        if (!visited.add(locale))
+            return;
+
+        if (available.contains(locale))
+            chain.add(locale);
+
+        for (Locale fallback : configured.getOrDefault(locale, ObjectLists.emptyList()))
+            follow(fallback, chain, visited);
+    }
+}
@@ -0,0 +1,184 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * Locale-aware number, currency, compact number and duration formatting.
+ * <p>
+ * {@link NumberFormat} instances are costly to create and not thread-safe, so every thread keeps its own
+ * formatters per locale, created on first use. Formatting a value then only allocates its output.
+ */
+@NullMarked
+final class LangFormat {
+    private static final ThreadLocal<Object2ObjectMap<Locale, Formats>> FORMATS =
+            ThreadLocal.withInitial(Object2ObjectOpenHashMap::new);
+    private static final int MAX_DECIMAL_DIGITS = 2;
+    private static final int MAX_COMPACT_DIGITS = 1;
+    private static final long[] DURATION_UNITS = {86_400L, 3_600L, 60L, 1L};
+
+    private LangFormat() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Formats an integer with the grouping separator of a locale.
+     *
+     * @param locale The locale
+     * @param value  The value
+     * @return The formatted value (e.g. "1,234" or "1 234")
+     */
+    static String integer(Locale locale, long value) {
+        return formats(locale).integer().format(value);
+    }
+
+    /**
+     * Formats a decimal with the separators of a locale and at most two fraction digits.
+     *
+     * @param locale The locale
+     * @param value  The value
+     * @return The formatted value (e.g. "1,234.5" or "1 234,5")
+     */
+    static String decimal(Locale locale, double value) {
+        return formats(locale).decimal().format(value);
+    }
+
+    /**
+     * Formats an amount of money.
+     *
+     * @param locale   The locale
+     * @param amount   The amount
+     * @param currency The currency, or null for the currency of the locale
+     * @return The formatted amount (e.g. "$1,234.50" or "1 234,50 €")
+     */
+    static String currency(Locale locale, double amount, @Nullable Currency currency) {
+        Formats formats = formats(locale);
+        NumberFormat format = formats.currency();
+
+        Currency target = currency == null ? formats.localeCurrency() : currency;
+        if (target != null && format.getCurrency() != target)
+            format.setCurrency(target);
+
+        return format.format(amount);
+    }
+
+    /**
+     * Formats a number in its short compact form.
+     *
+     * @param locale The locale
+     * @param value  The value
+     * @return The formatted value (e.g. "1.2K" or "1,2 k")
+     */
+    static String compact(Locale locale, long value) {
+        return formats(locale).compact().format(value);
+    }
+
+    /**
+     * Formats a duration as its non-zero units, from days to seconds.
+     *
+     * @param locale  The locale
+     * @param seconds The duration in seconds
+     * @param units   The suffixes of days, hours, minutes and seconds
+     * @return The formatted duration (e.g. "1d 2h 5s"), or zero seconds for an empty duration
+     */
+    static String duration(Locale locale, long seconds, String[] units) {
+        NumberFormat format = formats(locale).integer();
+        long remaining = Math.max(0L, seconds);
+        StringBuilder builder = new StringBuilder(16);
+
+        for (int i = 0; i < DURATION_UNITS.length; i++) {
+            long amount = remaining / DURATION_UNITS[i];
+            remaining %= DURATION_UNITS[i];
+            if (amount == 0)
+                continue;
+
+            if (!builder.isEmpty())
+                builder.append(' ');
+            builder.append(format.format(amount)).append(units[i]);
+        }
+
+        if (builder.isEmpty())
+            builder.append(format.format(0L)).append(units[units.length - 1]);
+
+        return builder.toString();
+    }
+
+    private static Formats formats(Locale locale) {
+        Object2ObjectMap<Locale, Formats> formats = FORMATS.get();
+        Formats localeFormats = formats.get(locale);
+        if (localeFormats == null) {
+            localeFormats = new Formats(locale);
+            formats.put(locale, localeFormats);
+        }
+
+        return localeFormats;
+    }
+
+    /**
+     * The formatters of one locale on one thread, each created on first use.
+     */
+    private static final class Formats {
+        private final Locale locale;
+        @Nullable
+        private Currency localeCurrency;
+        @Nullable
+        private NumberFormat integer;
+        @Nullable
+        private NumberFormat decimal;
+        @Nullable
+        private NumberFormat currency;
+        @Nullable
+        private NumberFormat compact;
+
+        private Formats(Locale locale) {
+            this.locale = locale;
+        }
+
+        private NumberFormat integer() {
+            if (integer == null)
+                integer = NumberFormat.getIntegerInstance(locale);
+
+            return integer;
+        }
+
+        private NumberFormat decimal() {
+            if (decimal == null) {
+                decimal = NumberFormat.getNumberInstance(locale);
+                decimal.setMaximumFractionDigits(MAX_DECIMAL_DIGITS);
+            }
+
+            return decimal;
+        }
+
+        private NumberFormat currency() {
+            if (currency == null) {
+                currency = NumberFormat.getCurrencyInstance(locale);
+                // Read before any other currency is set, and unlike Currency.getInstance it never throws for a locale without a country
+                localeCurrency = currency.getCurrency();
+            }
+
+            return currency;
+        }
+
+        @Nullable
+        private Currency localeCurrency() {
+            currency();
+            return localeCurrency;
+        }
+
+        private NumberFormat compact() {
+            if (compact == null) {
+                compact = NumberFormat.getCompactNumberInstance(locale, NumberFormat.Style.SHORT);
+                compact.setMaximumFractionDigits(MAX_COMPACT_DIGITS);
+            }
+
+            return compact;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A message key resolved once into a dense index, so that looking it up is an array access
+ * instead of hashing the dotted key into every locale.
+ * <p>
+ * Keys are interned: declare them as constants and reuse them.
+ * <pre>{@code
+ * private static final LangKey RELOAD_DONE = LangKey.of("command.reload.done");
+ *
+ * lang.sendMessage(player, RELOAD_DONE, Lang.numberPlaceholder("time_ms", time));
+ * }</pre>
+ */
+@NullMarked
+public final class LangKey {
+    private static final Map<String, LangKey> KEYS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final String key;
+    private final int index;
+
+    private LangKey(String key, int index) {
+        this.key = key;
+        this.index = index;
+    }
+
+    /**
+     * Gets the handle of a message key, creating it on first use.
+     *
+     * @param key The message key
+     * @return The handle, always the same instance for the same key
+     */
+    public static LangKey of(String key) {
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        LangKey langKey = KEYS.get(key);
+        if (langKey != null)
+            return langKey;
+
+        return KEYS.computeIfAbsent(key, k -> new LangKey(k, NEXT_INDEX.getAndIncrement()));
+    }
+
+    /**
+     * Gets every handle created so far.
+     *
+     * @return The handles
+     */
+    static Collection<LangKey> registered() {
+        return KEYS.values();
+    }
+
+    /**
+     * Gets the number of handles created so far, which is also the next unused index.
+     *
+     * @return The number of handles
+     */
+    static int count() {
+        return NEXT_INDEX.get();
+    }
+
+    public String key() {
+        return key;
+    }
+
+    int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
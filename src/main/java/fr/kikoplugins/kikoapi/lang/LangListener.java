@@ -0,0 +1,54 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Tracks player locales and loads them in the background as soon as they are known,
+ * so that rendering a message never has to read a language file nor look the player locale up.
+ * Also closes the {@link Lang} instance when its plugin is disabled.
+ */
+@NullMarked
+class LangListener implements Listener {
+    private final Lang lang;
+    private final JavaPlugin plugin;
+
+    LangListener(Lang lang, JavaPlugin plugin) {
+        this.lang = lang;
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        if (!this.lang.usePlayerLocale())
+            return;
+
+        this.lang.trackPlayer(event.getPlayer().getUniqueId(), event.getPlayer().locale());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLocaleChange(PlayerLocaleChangeEvent event) {
+        if (!this.lang.usePlayerLocale())
+            return;
+
+        this.lang.trackPlayer(event.getPlayer().getUniqueId(), event.locale());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.lang.untrackPlayer(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == this.plugin)
+            this.lang.close();
+    }
+}
@@ -0,0 +1,308 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.objects.ObjectLists;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Everything loaded for a single locale: its flattened messages, its parsed sounds, its special tags and the tag resolver built from them.
+ * <p>
+ * The loaded content (messages, sounds, special tags, tag resolver) never changes once built, and instances are shared
+ * between {@link LangSnapshot}s. The derived caches (key table, templates, split and prerendered lines, last use time)
+ * are filled lazily through thread-safe structures, so instances can be read from any thread without locking.
+ */
+@NullMarked
+final class LangLocale {
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String MISSING = new String("");
+
+    private final Locale locale;
+    private final boolean present;
+    private final Object2ObjectMap<String, String> messages;
+    private final Object2ObjectMap<String, Object2ObjectMap<String, String>> specialTags;
+    private final Object2ObjectMap<String, Sound> sounds;
+    private final TagResolver tagResolver;
+    private final Map<LangCacheKey, LangTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, ObjectList<String>> lines = new ConcurrentHashMap<>();
+    private final Map<String, ObjectList<Component>> parsedLines = new ConcurrentHashMap<>();
+    // Messages without placeholders rendered when the locale loaded, never evicted
+    private volatile Object2ObjectMap<String, Component> prerendered = Object2ObjectMaps.emptyMap();
+    // Last time an online player was found using this locale, starts when it loads
+    private volatile long lastUsedNanos = System.nanoTime();
+    // Messages by LangKey index, grown copy-on-write; MISSING marks keys resolved to nothing
+    private volatile String[] keyTable;
+    // Components of messages without placeholders by LangKey index, grown copy-on-write
+    private volatile @Nullable Component[] componentTable = new Component[0];
+    // Duration unit suffixes resolved through the fallback chain, on first use
+    private volatile String @Nullable [] durationUnits;
+
+    LangLocale(Locale locale,
+               boolean present,
+               Object2ObjectMap<String, String> messages,
+               Object2ObjectMap<String, Object2ObjectMap<String, String>> specialTags,
+               Object2ObjectMap<String, Sound> sounds,
+               TagResolver tagResolver) {
+        this.locale = locale;
+        this.present = present;
+        this.messages = Object2ObjectMaps.unmodifiable(messages);
+        this.specialTags = Object2ObjectMaps.unmodifiable(specialTags);
+        this.sounds = Object2ObjectMaps.unmodifiable(sounds);
+        this.tagResolver = tagResolver;
+
+        String[] table = new String[LangKey.count()];
+        for (LangKey key : LangKey.registered()) {
+            if (key.index() < table.length)
+                table[key.index()] = lookup(key);
+        }
+
+        this.keyTable = table;
+    }
+
+    /**
+     * Creates a locale without a language file.
+     *
+     * @param locale      The locale
+     * @param tagResolver The tag resolver to use for this locale
+     * @return The empty locale
+     */
+    static LangLocale missing(Locale locale, TagResolver tagResolver) {
+        return new LangLocale(locale, false, Object2ObjectMaps.emptyMap(), Object2ObjectMaps.emptyMap(),
+                Object2ObjectMaps.emptyMap(), tagResolver);
+    }
+
+    Locale locale() {
+        return locale;
+    }
+
+    /**
+     * Gets whether a language file was found for this locale.
+     *
+     * @return True if the locale has a language file
+     */
+    boolean present() {
+        return present;
+    }
+
+    @Nullable
+    String message(String key) {
+        return messages.get(key);
+    }
+
+    /**
+     * Gets a message through its key handle, resolving the handle on first use.
+     *
+     * @param key The key handle
+     * @return The message, or null if this locale does not define it
+     */
+    @Nullable
+    String message(LangKey key) {
+        int index = key.index();
+        String[] table = keyTable;
+
+        String message = index < table.length ? table[index] : null;
+        if (message == null)
+            message = resolve(key);
+
+        return message == MISSING ? null : message;
+    }
+
+    private synchronized String resolve(LangKey key) {
+        String message = lookup(key);
+
+        String[] table = keyTable;
+        if (key.index() >= table.length)
+            table = Arrays.copyOf(table, Math.max(LangKey.count(), key.index() + 1));
+
+        // Strings are immutable, a reader seeing the old array just resolves the key again
+        table[key.index()] = message;
+        keyTable = table;
+        return message;
+    }
+
+    private String lookup(LangKey key) {
+        String message = messages.get(key.key());
+        return message == null ? MISSING : message;
+    }
+
+    Object2ObjectMap<String, String> messages() {
+        return messages;
+    }
+
+    Object2ObjectMap<String, Object2ObjectMap<String, String>> specialTags() {
+        return specialTags;
+    }
+
+    /**
+     * Gets the sound played along with a message, parsed from its {@code <key>_sound} companion when the locale loaded.
+     *
+     * @param key The message key
+     * @return The sound, or null if this locale does not define a valid one
+     */
+    @Nullable
+    Sound sound(String key) {
+        return sounds.get(key);
+    }
+
+    TagResolver tagResolver() {
+        return tagResolver;
+    }
+
+    /**
+     * Gets the compiled templates of this locale, keyed by message and placeholder names.
+     * They are dropped along with the locale on reload.
+     *
+     * @return The templates
+     */
+    Map<LangCacheKey, LangTemplate> templates() {
+        return templates;
+    }
+
+    /**
+     * Gets the last time an online player was found using this locale, or when it loaded if none was.
+     *
+     * @return The {@link System#nanoTime()} of the last use
+     */
+    long lastUsedNanos() {
+        return lastUsedNanos;
+    }
+
+    void markUsed(long nanos) {
+        this.lastUsedNanos = nanos;
+    }
+
+    /**
+     * Gets the component of a message without placeholders, if it was rendered when the locale loaded.
+     *
+     * @param key The message key
+     * @return The component, or null if the message was not prerendered
+     */
+    @Nullable
+    Component prerendered(String key) {
+        return prerendered.get(key);
+    }
+
+    /**
+     * Sets the components of the messages without placeholders, rendered before the locale is published.
+     *
+     * @param components The components by message key
+     */
+    void prerendered(Object2ObjectMap<String, Component> components) {
+        this.prerendered = Object2ObjectMaps.unmodifiable(components);
+    }
+
+    /**
+     * Gets the component rendered for a key handle without placeholders.
+     *
+     * @param key The key handle
+     * @return The component, or null if it was not rendered yet for this locale
+     */
+    @Nullable
+    Component rendered(LangKey key) {
+        Component[] table = componentTable;
+        return key.index() < table.length ? table[key.index()] : null;
+    }
+
+    /**
+     * Remembers the component rendered for a key handle without placeholders, until this locale is replaced or unloaded.
+     *
+     * @param key       The key handle
+     * @param component The component
+     */
+    synchronized void rendered(LangKey key, Component component) {
+        Component[] table = componentTable;
+        if (key.index() >= table.length)
+            table = Arrays.copyOf(table, Math.max(LangKey.count(), key.index() + 1));
+
+        // Components are immutable, a reader seeing the old array just renders the key again
+        table[key.index()] = component;
+        componentTable = table;
+    }
+
+    /**
+     * Gets the duration unit suffixes of this locale, resolved through its fallback chain.
+     *
+     * @return The suffixes, or null if they were not resolved yet
+     */
+    String @Nullable [] durationUnits() {
+        return durationUnits;
+    }
+
+    /**
+     * Remembers the duration unit suffixes of this locale, until this locale is replaced or one of them changes.
+     *
+     * @param units The suffixes
+     */
+    void durationUnits(String[] units) {
+        this.durationUnits = units;
+    }
+
+    /**
+     * Forgets the components rendered for some keys, when a locale they fall back to changed.
+     *
+     * @param keys The changed message keys
+     */
+    synchronized void forgetRendered(Set<String> keys) {
+        for (LangKey key : LangLocalizedPlaceholder.DURATION_KEYS) {
+            if (keys.contains(key.key()))
+                durationUnits = null;
+        }
+
+        Component[] table = componentTable;
+        if (table.length == 0)
+            return;
+
+        table = table.clone();
+        for (LangKey key : LangKey.registered()) {
+            if (key.index() < table.length && keys.contains(key.key()))
+                table[key.index()] = null;
+        }
+
+        componentTable = table;
+    }
+
+    /**
+     * Reuses the templates and parsed lines of the previous version of this locale.
+     * They are keyed by message, so they stay valid as long as the special tags did not change.
+     *
+     * @param previous The previous version of this locale
+     */
+    void inheritCaches(LangLocale previous) {
+        templates.putAll(previous.templates);
+        lines.putAll(previous.lines);
+        parsedLines.putAll(previous.parsedLines);
+    }
+
+    /**
+     * Splits a multi-line message into its lines, once per message.
+     *
+     * @param message The message
+     * @return The unmodifiable lines
+     */
+    ObjectList<String> lines(String message) {
+        return lines.computeIfAbsent(message,
+                m -> ObjectLists.unmodifiable(ObjectArrayList.wrap(LangUtils.NEWLINE_PATTERN.split(m, -1))));
+    }
+
+    /**
+     * Gets the parsed lines of multi-line messages without placeholders, keyed by message.
+     * They are dropped along with the locale on reload.
+     *
+     * @return The parsed lines
+     */
+    Map<String, ObjectList<Component>> parsedLines() {
+        return parsedLines;
+    }
+}
@@ -0,0 +1,89 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * A placeholder whose value is formatted for the locale the message is rendered in.
+ * <p>
+ * {@link Lang} swaps it for an unparsed placeholder once the locale is resolved, see {@link #localize(Locale, String[])}.
+ * The raw value is kept so that it can be part of cache keys without being formatted first.
+ * Used outside of Lang, the value is formatted with {@link Locale#ROOT}.
+ *
+ * @param key         The placeholder key
+ * @param kind        How the value is formatted
+ * @param longValue   The value of integer, compact and duration (in seconds) placeholders
+ * @param doubleValue The value of decimal and currency placeholders
+ * @param currency    The currency of currency placeholders, or null for the currency of the locale
+ */
+@NullMarked
+record LangLocalizedPlaceholder(String key, Kind kind, long longValue, double doubleValue,
+                                @Nullable Currency currency) implements TagResolver {
+    static final LangKey[] DURATION_KEYS = {
+            LangKey.of("format.duration.days"),
+            LangKey.of("format.duration.hours"),
+            LangKey.of("format.duration.minutes"),
+            LangKey.of("format.duration.seconds")
+    };
+    static final String[] DEFAULT_DURATION_UNITS = {"d", "h", "m", "s"};
+
+    static LangLocalizedPlaceholder of(String key, Kind kind, long value) {
+        return new LangLocalizedPlaceholder(key, kind, value, 0D, null);
+    }
+
+    static LangLocalizedPlaceholder of(String key, Kind kind, double value, @Nullable Currency currency) {
+        return new LangLocalizedPlaceholder(key, kind, 0L, value, currency);
+    }
+
+    /**
+     * Formats the value for a locale.
+     *
+     * @param locale        The locale the message is rendered in
+     * @param durationUnits The duration unit suffixes of the locale, see {@link #DURATION_KEYS}
+     * @return An unparsed placeholder holding the formatted value
+     */
+    @SuppressWarnings("PatternValidation")
+    TagResolver localize(Locale locale, String[] durationUnits) {
+        return Placeholder.unparsed(key, format(locale, durationUnits));
+    }
+
+    private String format(Locale locale, String[] durationUnits) {
+        return switch (kind) {
+            case INTEGER -> LangFormat.integer(locale, longValue);
+            case DECIMAL -> LangFormat.decimal(locale, doubleValue);
+            case CURRENCY -> LangFormat.currency(locale, doubleValue, currency);
+            case COMPACT -> LangFormat.compact(locale, longValue);
+            case DURATION -> LangFormat.duration(locale, longValue, durationUnits);
+        };
+    }
+
+    @Override
+    public @Nullable Tag resolve(String name, ArgumentQueue arguments, Context ctx) {
+        if (!has(name))
+            return null;
+
+        return Tag.selfClosingInserting(Component.text(format(Locale.ROOT, DEFAULT_DURATION_UNITS)));
+    }
+
+    @Override
+    public boolean has(String name) {
+        return key.equals(name);
+    }
+
+    enum Kind {
+        INTEGER,
+        DECIMAL,
+        CURRENCY,
+        COMPACT,
+        DURATION
+    }
+}
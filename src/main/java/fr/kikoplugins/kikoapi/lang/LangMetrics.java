@@ -0,0 +1,276 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on metrics of a {@link Lang} instance.
+ * <p>
+ * Every counter is a {@link LongAdder}, so recording from many threads at once never contends:
+ * <ul>
+ *     <li>Cache hits, misses and evictions, and locale loads and unloads, per locale</li>
+ *     <li>Latency histograms of parsing a message, of filling a template, of a cache hit and of sending a message</li>
+ *     <li>Missing key lookups, per key</li>
+ * </ul>
+ */
+@NullMarked
+public final class LangMetrics {
+    private static final int MAX_TRACKED_MISSING_KEYS = 1024;
+
+    private final Map<Locale, LocaleMetrics> locales = new ConcurrentHashMap<>();
+    private final Histogram parse = new Histogram();
+    private final Histogram template = new Histogram();
+    private final Histogram cacheHit = new Histogram();
+    private final Histogram send = new Histogram();
+    private final LongAdder missingKeys = new LongAdder();
+    private final Map<String, LongAdder> missingKeyCounts = new ConcurrentHashMap<>();
+
+    LangMetrics() {
+    }
+
+    private LocaleMetrics locale(Locale locale) {
+        LocaleMetrics metrics = locales.get(locale);
+        if (metrics != null)
+            return metrics;
+
+        return locales.computeIfAbsent(locale, l -> new LocaleMetrics());
+    }
+
+    void recordHit(Locale locale, long nanos) {
+        locale(locale).hits.increment();
+        cacheHit.record(nanos);
+    }
+
+    void recordMiss(Locale locale) {
+        locale(locale).misses.increment();
+    }
+
+    void recordEviction(Locale locale) {
+        locale(locale).evictions.increment();
+    }
+
+    void recordLocaleLoad(Locale locale) {
+        locale(locale).loads.increment();
+    }
+
+    void recordLocaleUnload(Locale locale) {
+        locale(locale).unloads.increment();
+    }
+
+    void recordParse(long nanos) {
+        parse.record(nanos);
+    }
+
+    void recordTemplate(long nanos) {
+        template.record(nanos);
+    }
+
+    void recordSend(long nanos) {
+        send.record(nanos);
+    }
+
+    void recordMissingKey(String key) {
+        missingKeys.increment();
+
+        // Dynamic keys must not grow the map forever, the total still counts them
+        LongAdder count = missingKeyCounts.get(key);
+        if (count == null && missingKeyCounts.size() < MAX_TRACKED_MISSING_KEYS)
+            count = missingKeyCounts.computeIfAbsent(key, k -> new LongAdder());
+
+        if (count != null)
+            count.increment();
+    }
+
+    /**
+     * Gets the metrics of every locale that was loaded or looked up.
+     *
+     * @return A copy of the metrics by locale
+     */
+    public Object2ObjectMap<Locale, LocaleMetrics> locales() {
+        return new Object2ObjectOpenHashMap<>(locales);
+    }
+
+    /**
+     * Gets the latency of parsing a message with MiniMessage.
+     *
+     * @return The parse latency histogram
+     */
+    public Histogram parse() {
+        return parse;
+    }
+
+    /**
+     * Gets the latency of rendering a message with placeholders from its compiled template, without parsing it.
+     *
+     * @return The template fill latency histogram
+     */
+    public Histogram template() {
+        return template;
+    }
+
+    /**
+     * Gets the latency of getting a component from a cache.
+     *
+     * @return The cache hit latency histogram
+     */
+    public Histogram cacheHit() {
+        return cacheHit;
+    }
+
+    /**
+     * Gets the latency of sending a message, from the lookup to the audience receiving it.
+     *
+     * @return The send latency histogram
+     */
+    public Histogram send() {
+        return send;
+    }
+
+    /**
+     * Gets the number of lookups of keys missing from every locale of their chain.
+     *
+     * @return The number of missing key lookups
+     */
+    public long missingKeys() {
+        return missingKeys.sum();
+    }
+
+    /**
+     * Gets the number of lookups of each missing key, for the first {@value #MAX_TRACKED_MISSING_KEYS} distinct keys.
+     *
+     * @return A copy of the missing key lookups by key
+     */
+    public Object2LongMap<String> missingKeyCounts() {
+        Object2LongMap<String> counts = new Object2LongOpenHashMap<>(missingKeyCounts.size());
+        missingKeyCounts.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Gets the total number of locale loads.
+     *
+     * @return The number of locale loads
+     */
+    public long localeLoads() {
+        return locales.values().stream().mapToLong(LocaleMetrics::loads).sum();
+    }
+
+    /**
+     * Counters of a single locale.
+     */
+    public static final class LocaleMetrics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder unloads = new LongAdder();
+
+        private LocaleMetrics() {
+        }
+
+        public long hits() {
+            return hits.sum();
+        }
+
+        public long misses() {
+            return misses.sum();
+        }
+
+        public long evictions() {
+            return evictions.sum();
+        }
+
+        public long loads() {
+            return loads.sum();
+        }
+
+        public long unloads() {
+            return unloads.sum();
+        }
+
+        /**
+         * Gets the ratio of lookups served from a cache.
+         *
+         * @return The hit rate between 0 and 1, or 0 if there was no lookup
+         */
+        public double hitRate() {
+            long hitCount = hits();
+            long total = hitCount + misses();
+            return total == 0 ? 0D : (double) hitCount / total;
+        }
+    }
+
+    /**
+     * Latency histogram with power-of-two nanosecond buckets.
+     * Percentiles are approximated by the upper bound of their bucket.
+     */
+    public static final class Histogram {
+        private static final int BUCKETS = 64;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private Histogram() {
+            for (int i = 0; i < BUCKETS; i++)
+                buckets[i] = new LongAdder();
+        }
+
+        void record(long nanos) {
+            long value = Math.max(1, nanos);
+            buckets[63 - Long.numberOfLeadingZeros(value)].increment();
+            count.increment();
+            totalNanos.add(value);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        /**
+         * Gets the mean latency.
+         *
+         * @return The mean latency in nanoseconds, or 0 if nothing was recorded
+         */
+        public double meanNanos() {
+            long samples = count();
+            return samples == 0 ? 0D : (double) totalNanos.sum() / samples;
+        }
+
+        /**
+         * Gets an approximate percentile of the latency.
+         *
+         * @param percentile The percentile, between 0 and 1
+         * @return The upper bound of the bucket holding the percentile in nanoseconds, or 0 if nothing was recorded
+         */
+        public long percentileNanos(double percentile) {
+            long[] counts = new long[BUCKETS];
+            long samples = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+                samples += counts[i];
+            }
+
+            if (samples == 0)
+                return 0;
+
+            long rank = (long) Math.ceil(Math.min(1D, Math.max(0D, percentile)) * samples);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank)
+                    return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.kyori.adventure.text.Component;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of the {@link Lang} instances of every plugin, hosted by KikoAPI.
+ * <p>
+ * Instances built with {@link LangBuilder#useSharedCache(boolean)} store their components without placeholders in a single weighted cache,
+ * so that every plugin shares one memory budget instead of sizing its own cache. Entries are namespaced by plugin name
+ * and lang directory: an instance only ever sees and invalidates its own components, and a namespace belongs to a single live instance.
+ */
+@NullMarked
+public final class LangRegistry {
+    private final Map<String, Lang> instances = new ConcurrentHashMap<>();
+    private final Cache<LangCacheKey, Component> cache;
+
+    /**
+     * Creates a registry and its shared cache.
+     *
+     * @param maxWeight The memory budget of the shared cache in bytes, shared by every registered instance
+     */
+    public LangRegistry(long maxWeight) {
+        Preconditions.checkArgument(maxWeight > 0, "maxWeight must be positive");
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((LangCacheKey key, Component component) -> LangWeigher.weigh(key, component))
+                .expireAfterAccess(LangUtils.DEFAULT_CACHE_EXPIRE)
+                .recordStats()
+                .evictionListener((@Nullable LangCacheKey key, @Nullable Component component, RemovalCause cause) -> {
+                    if (key == null)
+                        return;
+
+                    Lang lang = instances.get(key.namespace());
+                    if (lang != null)
+                        lang.metrics().recordEviction(key.locale());
+                })
+                .build();
+    }
+
+    Cache<LangCacheKey, Component> cache() {
+        return cache;
+    }
+
+    /**
+     * Registers an instance.
+     *
+     * @param lang The instance
+     * @throws IllegalStateException If another live instance already reads the same directory of the same plugin
+     */
+    void register(Lang lang) {
+        Lang previous = instances.putIfAbsent(lang.namespace(), lang);
+        Preconditions.checkState(previous == null || previous == lang,
+                "%s is already used by another Lang instance sharing the cache, close it first", lang.namespace());
+    }
+
+    /**
+     * Unregisters an instance and drops its components, called when its plugin is disabled.
+     *
+     * @param lang The instance
+     */
+    void unregister(Lang lang) {
+        if (instances.remove(lang.namespace(), lang))
+            invalidate(lang.namespace());
+    }
+
+    /**
+     * Drops the components of a namespace.
+     *
+     * @param namespace The namespace
+     */
+    void invalidate(String namespace) {
+        cache.asMap().keySet().removeIf(key -> key.namespace().equals(namespace));
+    }
+
+    /**
+     * Gets the registered instances.
+     *
+     * @return A copy of the instances by namespace, {@code plugin:directory}
+     */
+    public Object2ObjectMap<String, Lang> instances() {
+        return new Object2ObjectOpenHashMap<>(instances);
+    }
+
+    /**
+     * Gets the memory budget of the shared cache.
+     *
+     * @return The maximum weight in bytes
+     */
+    public long maxWeight() {
+        return cache.policy().eviction().map(Policy.Eviction::getMaximum).orElse(0L);
+    }
+
+    /**
+     * Changes the memory budget of the shared cache, evicting components right away if it shrinks.
+     *
+     * @param maxWeight The maximum weight in bytes
+     */
+    public void maxWeight(long maxWeight) {
+        Preconditions.checkArgument(maxWeight > 0, "maxWeight must be positive");
+
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maxWeight));
+    }
+
+    /**
+     * Gets the estimated retained size of every component in the shared cache.
+     *
+     * @return The weighted size in bytes
+     */
+    public long weightedSize() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * Gets the estimated retained size of the components of each namespace in the shared cache.
+     *
+     * @return The weight in bytes by namespace, {@code plugin:directory}
+     */
+    public Object2LongMap<String> weightByNamespace() {
+        Object2LongOpenHashMap<String> weights = new Object2LongOpenHashMap<>();
+        Policy.Eviction<LangCacheKey, Component> eviction = cache.policy().eviction().orElse(null);
+        if (eviction == null)
+            return weights;
+
+        for (LangCacheKey key : cache.asMap().keySet())
+            weights.addTo(key.namespace(), eviction.weightOf(key).orElse(0));
+
+        return weights;
+    }
+
+    /**
+     * Gets a combined view of the shared cache and of every registered instance.
+     *
+     * @return Registry statistics string
+     */
+    public String stats() {
+        Object2LongMap<String> weights = weightByNamespace();
+        Object2ObjectMap<String, Lang> registered = instances();
+        String perInstance = registered.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> "%s: weight=%d, locales=%d".formatted(
+                        entry.getKey(),
+                        weights.getOrDefault(entry.getKey(), 0L),
+                        entry.getValue().loadedLocales().size()))
+                .collect(Collectors.joining(", "));
+
+        return "Lang Registry - Instances: %d, Shared Cache: size=%d, weight=%d/%d, hitRate=%.2f%% [%s]".formatted(
+                registered.size(),
+                cache.estimatedSize(),
+                weightedSize(),
+                maxWeight(),
+                cache.stats().hitRate() * 100D,
+                perInstance
+        );
+    }
+}
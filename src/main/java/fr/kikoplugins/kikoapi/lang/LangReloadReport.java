@@ -0,0 +1,49 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Timings of a {@link Lang} reload, phase by phase.
+ *
+ * @param configNanos         Time spent reading the config and extracting the default language files
+ * @param filesNanos          Time spent reading and flattening the language files
+ * @param tagsNanos           Time spent building the special tags of every locale
+ * @param prewarmNanos        Time spent rendering the components that were cached before the reload
+ * @param swapNanos           Time spent publishing the new locales and swapping the caches
+ * @param locales             The number of reloaded locales
+ * @param messages            The number of reloaded messages
+ * @param prewarmedComponents The number of components rendered ahead of the swap
+ */
+@NullMarked
+public record LangReloadReport(long configNanos,
+                               long filesNanos,
+                               long tagsNanos,
+                               long prewarmNanos,
+                               long swapNanos,
+                               int locales,
+                               int messages,
+                               int prewarmedComponents) {
+    /**
+     * Gets the total time of the reload.
+     *
+     * @return The total time in milliseconds
+     */
+    public double totalMillis() {
+        return (configNanos + filesNanos + tagsNanos + prewarmNanos + swapNanos) / 1_000_000D;
+    }
+
+    @Override
+    public String toString() {
+        return "%d locales, %d messages, %d prewarmed components in %.2f ms (config: %.2f ms, files: %.2f ms, tags: %.2f ms, prewarm: %.2f ms, swap: %.2f ms)".formatted(
+                locales,
+                messages,
+                prewarmedComponents,
+                totalMillis(),
+                configNanos / 1_000_000D,
+                filesNanos / 1_000_000D,
+                tagsNanos / 1_000_000D,
+                prewarmNanos / 1_000_000D,
+                swapNanos / 1_000_000D
+        );
+    }
+}
@@ -0,0 +1,225 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ByteMap;
+import it.unimi.dsi.fastutil.objects.Object2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * View of every loaded locale of a {@link Lang} instance. The set of locales and the key index never change once built,
+ * only the fallback chains are resolved lazily into a concurrent map.
+ * <p>
+ * Readers get the current snapshot through a single volatile read and never lock.
+ * Writers build a new snapshot (copy-on-write) and publish it in place of the old one.
+ * The snapshot also indexes which keys exist in any locale, and which of them have a sound.
+ */
+@NullMarked
+final class LangSnapshot {
+    private static final byte PRESENT = 1;
+    private static final byte HAS_SOUND = 1 << 1;
+
+    private final Locale defaultLocale;
+    private final boolean usePlayerLocale;
+    private final Object2ObjectMap<Locale, LangLocale> locales;
+    private final LangLocale defaultLangLocale;
+    // Flags of every key defined by at least one locale
+    private final Object2ByteMap<String> keyIndex;
+    private final LangFallbacks fallbacks;
+    // Chains resolved against the locales of this snapshot, by client locale
+    private final Map<Locale, LangLocale[]> chains = new ConcurrentHashMap<>();
+
+    private LangSnapshot(Locale defaultLocale,
+                         boolean usePlayerLocale,
+                         LangFallbacks fallbacks,
+                         Object2ObjectMap<Locale, LangLocale> locales,
+                         Object2ByteMap<String> keyIndex) {
+        this.defaultLocale = defaultLocale;
+        this.usePlayerLocale = usePlayerLocale;
+        this.fallbacks = fallbacks;
+        this.locales = Object2ObjectMaps.unmodifiable(locales);
+        this.keyIndex = keyIndex;
+
+        LangLocale defaultLangLocale = locales.get(defaultLocale);
+        if (defaultLangLocale == null)
+            throw new IllegalArgumentException("The default locale must be loaded: " + defaultLocale.toLanguageTag());
+
+        this.defaultLangLocale = defaultLangLocale;
+    }
+
+    private static Object2ByteMap<String> indexKeys(Collection<LangLocale> langLocales) {
+        Object2ByteOpenHashMap<String> keyIndex = new Object2ByteOpenHashMap<>();
+        for (LangLocale langLocale : langLocales)
+            indexKeys(keyIndex, langLocale);
+
+        keyIndex.trim();
+        return keyIndex;
+    }
+
+    private static void indexKeys(Object2ByteMap<String> keyIndex, LangLocale langLocale) {
+        for (String key : langLocale.messages().keySet()) {
+            addFlag(keyIndex, key, PRESENT);
+
+            if (key.endsWith(LangUtils.SOUND_SUFFIX))
+                addFlag(keyIndex, key.substring(0, key.length() - LangUtils.SOUND_SUFFIX.length()), HAS_SOUND);
+        }
+    }
+
+    private static void addFlag(Object2ByteMap<String> keyIndex, String key, byte flag) {
+        keyIndex.put(key, (byte) (keyIndex.getByte(key) | flag));
+    }
+
+    /**
+     * Creates a snapshot holding only the default locale.
+     *
+     * @param defaultLangLocale The loaded default locale
+     * @param usePlayerLocale   Whether player locales are used
+     * @param fallbacks         The fallback chains of client locales
+     * @return The snapshot
+     */
+    static LangSnapshot of(LangLocale defaultLangLocale, boolean usePlayerLocale, LangFallbacks fallbacks) {
+        Object2ObjectMap<Locale, LangLocale> locales = new Object2ObjectOpenHashMap<>();
+        locales.put(defaultLangLocale.locale(), defaultLangLocale);
+
+        return new LangSnapshot(defaultLangLocale.locale(), usePlayerLocale, fallbacks, locales, indexKeys(locales.values()));
+    }
+
+    /**
+     * Creates a snapshot holding the given locales.
+     *
+     * @param defaultLocale   The default locale, which must be part of the given locales
+     * @param usePlayerLocale Whether player locales are used
+     * @param fallbacks       The fallback chains of client locales
+     * @param langLocales     The loaded locales
+     * @return The snapshot
+     */
+    static LangSnapshot of(Locale defaultLocale,
+                           boolean usePlayerLocale,
+                           LangFallbacks fallbacks,
+                           Collection<LangLocale> langLocales) {
+        Object2ObjectMap<Locale, LangLocale> locales = new Object2ObjectOpenHashMap<>(langLocales.size());
+        for (LangLocale langLocale : langLocales)
+            locales.put(langLocale.locale(), langLocale);
+
+        return new LangSnapshot(defaultLocale, usePlayerLocale, fallbacks, locales, indexKeys(locales.values()));
+    }
+
+    /**
+     * Creates a copy of this snapshot with a locale added or replaced.
+     *
+     * @param langLocale The loaded locale
+     * @return The new snapshot
+     */
+    LangSnapshot with(LangLocale langLocale) {
+        Object2ObjectMap<Locale, LangLocale> copy = new Object2ObjectOpenHashMap<>(locales);
+        LangLocale replaced = copy.put(langLocale.locale(), langLocale);
+
+        // A new locale only adds keys, a replaced one may also remove some
+        Object2ByteMap<String> index;
+        if (replaced == null) {
+            Object2ByteOpenHashMap<String> merged = new Object2ByteOpenHashMap<>(keyIndex);
+            indexKeys(merged, langLocale);
+            index = merged;
+        } else {
+            index = indexKeys(copy.values());
+        }
+
+        return new LangSnapshot(defaultLocale, usePlayerLocale, fallbacks, copy, index);
+    }
+
+    /**
+     * Creates a copy of this snapshot without a locale, e.g. after it was idle for too long.
+     * Chains are resolved again against the new snapshot.
+     *
+     * @param locale The locale to unload
+     * @return The new snapshot
+     */
+    LangSnapshot without(Locale locale) {
+        Object2ObjectMap<Locale, LangLocale> copy = new Object2ObjectOpenHashMap<>(locales);
+        copy.remove(locale);
+
+        return new LangSnapshot(defaultLocale, usePlayerLocale, fallbacks, copy, indexKeys(copy.values()));
+    }
+
+    /**
+     * Gets the chain of a client locale, if it was resolved against this snapshot.
+     *
+     * @param clientLocale The client locale
+     * @return The loaded locales of the chain, or null if not resolved yet
+     */
+    LangLocale @Nullable [] chain(Locale clientLocale) {
+        return chains.get(clientLocale);
+    }
+
+    /**
+     * Remembers the chain of a client locale, once all of its locales are loaded in this snapshot.
+     *
+     * @param clientLocale The client locale
+     * @param chain        The loaded locales of the chain
+     */
+    void cacheChain(Locale clientLocale, LangLocale[] chain) {
+        chains.put(clientLocale, chain);
+    }
+
+    LangFallbacks fallbacks() {
+        return fallbacks;
+    }
+
+    /**
+     * Creates a copy of this snapshot with other fallbacks, e.g. after a language file was added or removed.
+     *
+     * @param newFallbacks The fallback chains of client locales
+     * @return The new snapshot
+     */
+    LangSnapshot withFallbacks(LangFallbacks newFallbacks) {
+        return new LangSnapshot(defaultLocale, usePlayerLocale, newFallbacks, new Object2ObjectOpenHashMap<>(locales), keyIndex);
+    }
+
+    /**
+     * Checks if a key is defined by any loaded locale.
+     *
+     * @param key The message key
+     * @return True if the key exists
+     */
+    boolean hasKey(String key) {
+        return (keyIndex.getByte(key) & PRESENT) != 0;
+    }
+
+    /**
+     * Checks if any loaded locale defines a sound companion ({@code <key>_sound}) for a key.
+     *
+     * @param key The message key
+     * @return True if the key has a sound
+     */
+    boolean hasSound(String key) {
+        return (keyIndex.getByte(key) & HAS_SOUND) != 0;
+    }
+
+    Locale defaultLocale() {
+        return defaultLocale;
+    }
+
+    LangLocale defaultLangLocale() {
+        return defaultLangLocale;
+    }
+
+    boolean usePlayerLocale() {
+        return usePlayerLocale;
+    }
+
+    @Nullable
+    LangLocale locale(Locale locale) {
+        return locales.get(locale);
+    }
+
+    Object2ObjectMap<Locale, LangLocale> locales() {
+        return locales;
+    }
+}
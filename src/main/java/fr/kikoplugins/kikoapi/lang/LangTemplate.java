@@ -0,0 +1,319 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Inserting;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * A MiniMessage message compiled once into a component tree with placeholder slots.
+ * <p>
+ * Each placeholder of the message is parsed as a marker component. Rendering walks the compiled
+ * tree and swaps every marker for the component of the matching placeholder, so the MiniMessage
+ * parser only runs once per message, locale and placeholder names.
+ * <p>
+ * Only self-closing inserting placeholders (e.g. {@link Lang#unparsedPlaceholder(String, String)},
+ * {@link Lang#componentPlaceholder(String, Component)}) can fill a slot. Messages that use other
+ * placeholders, or that run a placeholder through a modifying tag like {@code <gradient>},
+ * are not compilable and must go through the parser. So are messages that use a live tag
+ * (the custom tag resolvers of the builder), whose output may change between two renders.
+ */
+@NullMarked
+final class LangTemplate {
+    private static final String SLOT_PREFIX = "kikoapi:slot/";
+    private static final TagResolver STANDARD_TAGS = TagResolver.standard();
+    private static final LangTemplate UNSUPPORTED = new LangTemplate(null, Object2ObjectMaps.emptyMap());
+
+    // Same as MiniMessage.miniMessage() but without compacting, so that markers stay as is in the tree
+    private static final MiniMessage COMPILER = MiniMessage.builder()
+            .postProcessor(UnaryOperator.identity())
+            .build();
+
+    @Nullable
+    private final Component tree;
+    private final Object2ObjectMap<String, String> slots;
+
+    private LangTemplate(@Nullable Component tree, Object2ObjectMap<String, String> slots) {
+        this.tree = tree;
+        this.slots = slots;
+    }
+
+    /**
+     * Compiles a message into a template.
+     *
+     * @param message      The raw message
+     * @param names        The placeholder names that will fill the slots
+     * @param liveResolver The tags that must not be baked into the template (custom resolvers)
+     * @param resolvers    The locale tag resolvers (special tags, custom resolvers)
+     * @return The compiled template, never null (check {@link #compiled()})
+     */
+    static LangTemplate compile(String message, ObjectList<String> names, TagResolver liveResolver, TagResolver... resolvers) {
+        TagResolver localeResolver = TagResolver.resolver(resolvers);
+        LiveTagDetector liveTags = new LiveTagDetector(liveResolver);
+        TagResolver.Builder builder = TagResolver.builder().resolver(liveTags).resolver(localeResolver);
+        Object2ObjectMap<String, String> slots = new Object2ObjectOpenHashMap<>(names.size());
+
+        for (String name : names) {
+            // A placeholder shadowed by another tag does not resolve to itself, leave it to the parser
+            if (STANDARD_TAGS.has(name) || liveResolver.has(name) || localeResolver.has(name))
+                return UNSUPPORTED;
+
+            String marker = SLOT_PREFIX + name;
+            slots.put(marker, name);
+            builder.tag(name, Tag.selfClosingInserting(Component.translatable(marker)));
+        }
+
+        Component tree;
+        try {
+            tree = COMPILER.deserialize(message, builder.build());
+        } catch (ParsingException e) {
+            return UNSUPPORTED;
+        }
+
+        if (liveTags.found)
+            return UNSUPPORTED;
+
+        LangTemplate template = new LangTemplate(tree, slots);
+        if (!template.untouchedSlots(tree))
+            return UNSUPPORTED;
+
+        return new LangTemplate(template.compactNested(tree), slots);
+    }
+
+    /**
+     * Extracts the slot values from placeholders.
+     *
+     * @param placeholders The placeholders given by the caller
+     * @return The components by placeholder name, or null if a placeholder cannot fill a slot
+     */
+    @Nullable
+    static Object2ObjectMap<String, Component> slotValues(TagResolver... placeholders) {
+        Object2ObjectMap<String, Component> values = new Object2ObjectOpenHashMap<>(placeholders.length);
+
+        for (TagResolver placeholder : placeholders) {
+            if (!(placeholder instanceof TagResolver.Single single))
+                return null;
+
+            if (!(single.tag() instanceof Inserting inserting) || inserting.allowsChildren())
+                return null;
+
+            values.put(single.key(), inserting.value());
+        }
+
+        return values;
+    }
+
+    /**
+     * Gets whether this template can be rendered.
+     *
+     * @return True if the message was compiled
+     */
+    boolean compiled() {
+        return tree != null;
+    }
+
+    /**
+     * Renders this template by filling every slot.
+     *
+     * @param values The components by placeholder name
+     * @return The rendered component
+     * @throws IllegalStateException if the template is not compiled
+     */
+    Component render(Object2ObjectMap<String, Component> values) {
+        if (tree == null)
+            throw new IllegalStateException("Template is not compiled");
+
+        return fill(tree, values).compact();
+    }
+
+    private Component fill(Component component, Object2ObjectMap<String, Component> values) {
+        if (component instanceof TranslatableComponent translatable) {
+            String name = slots.get(translatable.key());
+            if (name != null)
+                return values.getOrDefault(name, Component.empty());
+        }
+
+        Component result = component;
+
+        HoverEvent<?> hoverEvent = result.hoverEvent();
+        if (hoverEvent != null && hoverEvent.value() instanceof Component hoverText) {
+            Component filled = fill(hoverText, values);
+            // Nested parses are compacted by MiniMessage, do the same once the slots are filled
+            if (filled != hoverText)
+                result = result.hoverEvent(HoverEvent.showText(filled.compact()));
+        }
+
+        if (result instanceof TranslatableComponent translatable && !translatable.arguments().isEmpty()) {
+            List<TranslationArgument> arguments = translatable.arguments();
+            ObjectList<TranslationArgument> filledArguments = null;
+
+            for (int i = 0; i < arguments.size(); i++) {
+                if (!(arguments.get(i).value() instanceof Component argument))
+                    continue;
+
+                Component filled = fill(argument, values);
+                if (filled == argument)
+                    continue;
+
+                if (filledArguments == null)
+                    filledArguments = new ObjectArrayList<>(arguments);
+
+                filledArguments.set(i, TranslationArgument.component(filled.compact()));
+            }
+
+            if (filledArguments != null)
+                result = translatable.arguments(filledArguments);
+        }
+
+        List<Component> children = result.children();
+        ObjectList<Component> filledChildren = null;
+
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component filled = fill(child, values);
+            if (filled == child)
+                continue;
+
+            if (filledChildren == null)
+                filledChildren = new ObjectArrayList<>(children);
+
+            filledChildren.set(i, filled);
+        }
+
+        return filledChildren == null ? result : result.children(filledChildren);
+    }
+
+    /**
+     * Checks that no tag altered a slot marker, which happens with modifying tags like gradients.
+     *
+     * @param component The compiled component
+     * @return True if every slot can be swapped with its value
+     */
+    private boolean untouchedSlots(Component component) {
+        if (component instanceof TranslatableComponent translatable && slots.containsKey(translatable.key()))
+            return translatable.style().isEmpty() && translatable.children().isEmpty();
+
+        if (component.hoverEvent() != null && component.hoverEvent().value() instanceof Component hoverText
+                && !untouchedSlots(hoverText))
+            return false;
+
+        if (component instanceof TranslatableComponent translatable) {
+            for (TranslationArgument argument : translatable.arguments()) {
+                if (argument.value() instanceof Component value && !untouchedSlots(value))
+                    return false;
+            }
+        }
+
+        for (Component child : component.children()) {
+            if (!untouchedSlots(child))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Compacts the nested components (hover texts, translation arguments) that hold no slot,
+     * as MiniMessage does when it parses them. Nested components with slots are compacted on render.
+     *
+     * @param component The compiled component
+     * @return The component with its slot-free nested components compacted
+     */
+    private Component compactNested(Component component) {
+        Component result = component;
+
+        HoverEvent<?> hoverEvent = result.hoverEvent();
+        if (hoverEvent != null && hoverEvent.value() instanceof Component hoverText) {
+            Component compacted = hasSlot(hoverText) ? compactNested(hoverText) : hoverText.compact();
+            result = result.hoverEvent(HoverEvent.showText(compacted));
+        }
+
+        if (result instanceof TranslatableComponent translatable && !translatable.arguments().isEmpty()) {
+            ObjectList<TranslationArgument> arguments = new ObjectArrayList<>(translatable.arguments().size());
+            for (TranslationArgument argument : translatable.arguments()) {
+                if (argument.value() instanceof Component value)
+                    arguments.add(TranslationArgument.component(hasSlot(value) ? compactNested(value) : value.compact()));
+                else
+                    arguments.add(argument);
+            }
+
+            result = translatable.arguments(arguments);
+        }
+
+        List<Component> children = result.children();
+        if (children.isEmpty())
+            return result;
+
+        ObjectList<Component> compactedChildren = new ObjectArrayList<>(children.size());
+        for (Component child : children)
+            compactedChildren.add(compactNested(child));
+
+        return result.children(compactedChildren);
+    }
+
+    private boolean hasSlot(Component component) {
+        if (component instanceof TranslatableComponent translatable) {
+            if (slots.containsKey(translatable.key()))
+                return true;
+
+            for (TranslationArgument argument : translatable.arguments()) {
+                if (argument.value() instanceof Component value && hasSlot(value))
+                    return true;
+            }
+        }
+
+        if (component.hoverEvent() != null && component.hoverEvent().value() instanceof Component hoverText
+                && hasSlot(hoverText))
+            return true;
+
+        for (Component child : component.children()) {
+            if (hasSlot(child))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Resolves the live tags first, remembering whether the message used any of them.
+     */
+    private static final class LiveTagDetector implements TagResolver {
+        private final TagResolver delegate;
+        private boolean found;
+
+        private LiveTagDetector(TagResolver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @Nullable Tag resolve(String name, ArgumentQueue arguments, Context ctx) throws ParsingException {
+            if (!delegate.has(name))
+                return null;
+
+            found = true;
+            return delegate.resolve(name, arguments, ctx);
+        }
+
+        @Override
+        public boolean has(String name) {
+            return delegate.has(name);
+        }
+    }
+}
@@ -6,8 +6,13 @@ import java.util.regex.Pattern;
 public final class LangUtils {
     public static final Pattern NEWLINE_PATTERN = Pattern.compile("\\R");
     public static final String SOUND_SUFFIX = "_sound";
+    public static final String SPECIAL_TAGS_PREFIX = "special-tags.";
     public static final int DEFAULT_MAX_CACHE = 2048;
+    public static final int DEFAULT_MAX_PLACEHOLDER_CACHE = 1024;
+    public static final long DEFAULT_MAX_PLACEHOLDER_CACHE_WEIGHT = 1024 * 1024L;
+    public static final long DEFAULT_MAX_SHARED_CACHE_WEIGHT = 16 * 1024 * 1024L;
     public static final Duration DEFAULT_CACHE_EXPIRE = Duration.ofMinutes(30);
+    public static final Duration DEFAULT_WATCH_DEBOUNCE = Duration.ofMillis(500);
     public static final String DEFAULT_LANG_CODE = "en_US";
 
     private LangUtils() {
@@ -0,0 +1,115 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the language directory of a {@link Lang} instance and reloads the language files that change.
+ * <p>
+ * Changes are debounced: a file is reloaded once no event has been received for the debounce duration,
+ * so that editors writing a file in several steps trigger a single reload.
+ */
+@NullMarked
+final class LangWatcher implements Runnable {
+    private final Lang lang;
+    private final Path directory;
+    private final Logger logger;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    LangWatcher(Lang lang, Path directory, Logger logger, Duration debounce, String pluginName) throws IOException {
+        this.lang = lang;
+        this.directory = directory;
+        this.logger = logger;
+        this.debounceMillis = Math.max(1, debounce.toMillis());
+        this.watchService = FileSystems.getDefault().newWatchService();
+
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        this.thread = new Thread(this, "KikoAPI Lang Watcher - " + pluginName);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close the language file watcher", e);
+        }
+    }
+
+    @Override
+    public void run() {
+        ObjectSet<String> changedFiles = new ObjectLinkedOpenHashSet<>();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = changedFiles.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+
+                // Quiet for the whole debounce duration, reload what changed
+                if (key == null) {
+                    for (String fileName : changedFiles)
+                        reloadFile(fileName);
+
+                    changedFiles.clear();
+                    continue;
+                }
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        changedFiles.add("");
+                        continue;
+                    }
+
+                    String fileName = event.context().toString();
+                    if (fileName.endsWith(".yml"))
+                        changedFiles.add(fileName);
+                }
+
+                if (!key.reset()) {
+                    logger.warn("Language directory {} is no longer accessible, stopped watching it", directory);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Closed by Lang#close()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reloadFile(String fileName) {
+        try {
+            // Events were lost, reload everything
+            if (fileName.isEmpty())
+                lang.reload();
+            else
+                lang.reloadLocaleFile(fileName);
+        } catch (Exception e) {
+            logger.error("Failed to reload language file {}", fileName, e);
+        }
+    }
+}
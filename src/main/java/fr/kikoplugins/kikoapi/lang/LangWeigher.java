@@ -0,0 +1,166 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Estimates the retained size in bytes of cached components, assuming a 64-bit JVM with compressed references.
+ * <p>
+ * The estimate walks the component tree: every component, child list, non-empty style, non-named color,
+ * click and hover event is counted, along with the strings they hold. Shared instances
+ * (empty styles, named colors, empty child lists) are free.
+ */
+@NullMarked
+final class LangWeigher {
+    private static final int OBJECT_HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int COMPONENT = align(OBJECT_HEADER + 3 * REFERENCE);
+    private static final int STYLE = align(OBJECT_HEADER + 8 * REFERENCE);
+    private static final int COLOR = align(OBJECT_HEADER + Integer.BYTES);
+    private static final int EVENT = align(OBJECT_HEADER + 2 * REFERENCE);
+    private static final int KEY = align(OBJECT_HEADER + 2 * REFERENCE);
+    private static final int LIST = align(OBJECT_HEADER + Integer.BYTES + REFERENCE);
+    private static final int STRING = align(OBJECT_HEADER + Integer.BYTES + 2 + REFERENCE);
+    private static final int ARRAY_HEADER = 16;
+    // Hover items, entities, formatted placeholder values and anything else not worth walking
+    private static final int OPAQUE = 64;
+
+    private LangWeigher() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Weighs a cache entry.
+     *
+     * @param key       The cache key
+     * @param component The cached component
+     * @return The estimated retained size in bytes, capped to {@link Integer#MAX_VALUE}
+     */
+    static int weigh(LangCacheKey key, Component component) {
+        long bytes = retainedSize(key) + retainedSize(component);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    /**
+     * Estimates the retained size of a cache key. The namespace and the key are shared with the Lang instance
+     * and its messages, only the key object and the placeholder values belong to the entry.
+     *
+     * @param key The cache key
+     * @return The estimated size in bytes
+     */
+    static long retainedSize(LangCacheKey key) {
+        long bytes = align(OBJECT_HEADER + 4 * REFERENCE + Integer.BYTES);
+
+        if (!key.placeholders().isEmpty()) {
+            bytes += LIST + array(key.placeholders().size());
+            for (Object value : key.placeholders()) {
+                if (value instanceof Component component)
+                    bytes += retainedSize(component);
+                else if (value instanceof String string)
+                    bytes += retainedSize(string);
+                else
+                    bytes += OPAQUE;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Estimates the retained size of a component tree.
+     *
+     * @param component The root component
+     * @return The estimated size in bytes
+     */
+    static long retainedSize(Component component) {
+        long bytes = COMPONENT + retainedSize(component.style());
+
+        if (component instanceof TextComponent text) {
+            bytes += retainedSize(text.content());
+        } else if (component instanceof TranslatableComponent translatable) {
+            bytes += retainedSize(translatable.key()) + retainedSize(translatable.fallback());
+            if (!translatable.arguments().isEmpty()) {
+                bytes += LIST + array(translatable.arguments().size());
+                for (TranslationArgument argument : translatable.arguments())
+                    bytes += argument.value() instanceof Component value ? COMPONENT + retainedSize(value) : OPAQUE;
+            }
+        } else if (component instanceof KeybindComponent keybind) {
+            bytes += retainedSize(keybind.keybind());
+        } else {
+            bytes += OPAQUE;
+        }
+
+        if (!component.children().isEmpty()) {
+            bytes += LIST + array(component.children().size());
+            for (Component child : component.children())
+                bytes += retainedSize(child);
+        }
+
+        return bytes;
+    }
+
+    private static long retainedSize(Style style) {
+        if (style.isEmpty())
+            return 0;
+
+        long bytes = STYLE;
+
+        TextColor color = style.color();
+        if (color != null && !(color instanceof NamedTextColor))
+            bytes += COLOR;
+
+        Key font = style.font();
+        if (font != null)
+            bytes += KEY + retainedSize(font.namespace()) + retainedSize(font.value());
+
+        ClickEvent clickEvent = style.clickEvent();
+        if (clickEvent != null)
+            bytes += EVENT + OPAQUE;
+
+        HoverEvent<?> hoverEvent = style.hoverEvent();
+        if (hoverEvent != null)
+            bytes += EVENT + (hoverEvent.value() instanceof Component value ? retainedSize(value) : OPAQUE);
+
+        bytes += retainedSize(style.insertion());
+        return bytes;
+    }
+
+    private static long retainedSize(@Nullable String string) {
+        if (string == null)
+            return 0;
+
+        // Compact strings hold one byte per character unless one does not fit in Latin-1
+        int coder = 1;
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                coder = 2;
+                break;
+            }
+        }
+
+        return STRING + align(ARRAY_HEADER + (long) string.length() * coder);
+    }
+
+    private static long array(int length) {
+        return align(ARRAY_HEADER + (long) length * REFERENCE);
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 7) & ~7;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,244 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Reads a language file straight from the YAML parser events into flat, dot-separated keys,
+ * without building a configuration tree first.
+ * <p>
+ * Like {@code ConfigurationSection#isString}, only string scalars become messages:
+ * plain scalars resolving to booleans, numbers, nulls or timestamps are skipped, as are lists.
+ * Aliases ({@code *anchor}) and merge keys ({@code <<: *anchor}) are resolved like YamlConfiguration does:
+ * only anchored nodes are kept in memory, as small trees, so that they can be copied where they are referenced.
+ */
+@NullMarked
+final class LangYamlReader {
+    private static final Resolver RESOLVER = new Resolver();
+    // Anchored node that holds no message (number, boolean, list...)
+    private static final Object NO_MESSAGE = new Object();
+
+    private final Iterator<Event> events;
+    private final Object2ObjectMap<String, String> output = new Object2ObjectOpenHashMap<>();
+    private final Object2ObjectMap<String, Object> anchors = new Object2ObjectOpenHashMap<>();
+    private final int maxAliases;
+    private int aliases;
+
+    private LangYamlReader(Iterator<Event> events, int maxAliases) {
+        this.events = events;
+        this.maxAliases = maxAliases;
+    }
+
+    /**
+     * Reads the first document of a language file.
+     *
+     * @param reader The reader of the file
+     * @return The messages by dot-separated key
+     * @throws org.yaml.snakeyaml.error.YAMLException If the file is not valid YAML
+     */
+    static Object2ObjectMap<String, String> read(Reader reader) {
+        LoaderOptions options = new LoaderOptions();
+        options.setCodePointLimit(Integer.MAX_VALUE);
+
+        Iterator<Event> events = new Yaml(options).parse(reader).iterator();
+        LangYamlReader yamlReader = new LangYamlReader(events, options.getMaxAliasesForCollections());
+
+        while (events.hasNext()) {
+            Event event = events.next();
+            if (event instanceof MappingStartEvent) {
+                yamlReader.readMapping("");
+                break;
+            }
+
+            if (event instanceof CollectionStartEvent)
+                break; // Not a language file
+        }
+
+        return yamlReader.output;
+    }
+
+    /**
+     * Streams a mapping into the output, keeping nothing in memory but its anchored values and merge sources.
+     */
+    private void readMapping(String prefix) {
+        ObjectSet<String> explicitKeys = new ObjectOpenHashSet<>();
+        ObjectList<Object2ObjectMap<String, Object>> merged = new ObjectArrayList<>();
+
+        while (true) {
+            Event keyEvent = events.next();
+            if (keyEvent instanceof MappingEndEvent)
+                break;
+
+            if (!(keyEvent instanceof ScalarEvent keyScalar)) {
+                // Complex key, skip it along with its value
+                readNode(keyEvent);
+                readNode(events.next());
+                continue;
+            }
+
+            Event valueEvent = events.next();
+            if (isMergeKey(keyScalar)) {
+                mergeSources(valueEvent, merged);
+                continue;
+            }
+
+            String key = keyScalar.getValue();
+            String fullKey = prefix + key;
+            explicitKeys.add(key);
+
+            // Values that are not anchored nor aliases are streamed, the others go through a tree
+            if (valueEvent instanceof MappingStartEvent mappingStart && mappingStart.getAnchor() == null)
+                readMapping(fullKey + ".");
+            else
+                flatten(readNode(valueEvent), fullKey);
+        }
+
+        // Keys written in the mapping win over merged ones, and earlier merge sources over later ones
+        ObjectSet<String> mergedKeys = new ObjectOpenHashSet<>();
+        for (Object2ObjectMap<String, Object> source : merged) {
+            for (Map.Entry<String, Object> entry : source.entrySet()) {
+                if (!explicitKeys.contains(entry.getKey()) && mergedKeys.add(entry.getKey()))
+                    flatten(entry.getValue(), prefix + entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Reads a whole node into a tree: a string, a mapping of trees or {@link #NO_MESSAGE}.
+     * Anchored nodes are recorded so that later aliases resolve to them.
+     */
+    private Object readNode(Event start) {
+        if (start instanceof AliasEvent alias) {
+            Object node = anchors.get(alias.getAnchor());
+            if (node == null)
+                throw new YAMLException("Found undefined alias " + alias.getAnchor());
+
+            // Same limit as the YAML composer, so that nested aliases cannot blow up the messages
+            if (node instanceof Object2ObjectMap<?, ?> && ++aliases > maxAliases)
+                throw new YAMLException("Number of aliases for non-scalar nodes exceeds the limit of " + maxAliases);
+
+            return node;
+        }
+
+        Object node;
+        if (start instanceof ScalarEvent scalar) {
+            node = isString(scalar) ? scalar.getValue() : NO_MESSAGE;
+        } else if (start instanceof MappingStartEvent) {
+            node = readMappingNode();
+        } else if (start instanceof SequenceStartEvent) {
+            // Lists are not messages, but may define anchors used later
+            Event event;
+            while (!((event = events.next()) instanceof SequenceEndEvent))
+                readNode(event);
+
+            node = NO_MESSAGE;
+        } else {
+            node = NO_MESSAGE;
+        }
+
+        if (start instanceof NodeEvent nodeEvent && nodeEvent.getAnchor() != null)
+            anchors.put(nodeEvent.getAnchor(), node);
+
+        return node;
+    }
+
+    private Object2ObjectMap<String, Object> readMappingNode() {
+        Object2ObjectMap<String, Object> mapping = new Object2ObjectLinkedOpenHashMap<>();
+        ObjectList<Object2ObjectMap<String, Object>> merged = new ObjectArrayList<>();
+
+        while (true) {
+            Event keyEvent = events.next();
+            if (keyEvent instanceof MappingEndEvent)
+                break;
+
+            if (!(keyEvent instanceof ScalarEvent keyScalar)) {
+                readNode(keyEvent);
+                readNode(events.next());
+                continue;
+            }
+
+            Event valueEvent = events.next();
+            if (isMergeKey(keyScalar))
+                mergeSources(valueEvent, merged);
+            else
+                mapping.put(keyScalar.getValue(), readNode(valueEvent));
+        }
+
+        for (Object2ObjectMap<String, Object> source : merged) {
+            for (Map.Entry<String, Object> entry : source.entrySet())
+                mapping.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+
+        return mapping;
+    }
+
+    /**
+     * Reads the value of a merge key: a mapping, or a list of mappings.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeSources(Event valueEvent, ObjectList<Object2ObjectMap<String, Object>> merged) {
+        if (valueEvent instanceof SequenceStartEvent) {
+            Event event;
+            while (!((event = events.next()) instanceof SequenceEndEvent)) {
+                if (readNode(event) instanceof Object2ObjectMap<?, ?> source)
+                    merged.add((Object2ObjectMap<String, Object>) source);
+            }
+            return;
+        }
+
+        if (readNode(valueEvent) instanceof Object2ObjectMap<?, ?> source)
+            merged.add((Object2ObjectMap<String, Object>) source);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flatten(@Nullable Object node, String key) {
+        if (node instanceof String message) {
+            output.put(key, message);
+        } else if (node instanceof Object2ObjectMap<?, ?> mapping) {
+            for (Map.Entry<String, Object> entry : ((Object2ObjectMap<String, Object>) mapping).entrySet())
+                flatten(entry.getValue(), key + "." + entry.getKey());
+        }
+    }
+
+    private static boolean isMergeKey(ScalarEvent scalar) {
+        return scalar.isPlain() && scalar.getTag() == null && "<<".equals(scalar.getValue());
+    }
+
+    private static boolean isString(ScalarEvent scalar) {
+        String tag = scalar.getTag();
+        if (tag != null && !"!".equals(tag))
+            return Tag.STR.getValue().equals(tag);
+
+        // Quoted, literal and folded scalars are always strings
+        if (!scalar.isPlain())
+            return true;
+
+        return Tag.STR.equals(RESOLVER.resolve(NodeId.scalar, scalar.getValue(), true));
+    }
+}
@@ -0,0 +1,96 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.KikoServerMock;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+class LangAsyncChainTest {
+
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+    private static final LangKey GREETING = LangKey.of("chain-test.greeting");
+
+    private KikoServerMock server;
+    private KikoAPI plugin;
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = MockBukkitHelper.safeMock();
+        plugin = MockBukkit.load(KikoAPI.class);
+
+        directory = plugin.getDataFolder().toPath().resolve("lang-chain-test");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("en_US.yml"), """
+                chain-test:
+                  greeting: "Hello"
+                  welcome: "Hello <name>"
+                """);
+        Files.writeString(directory.resolve("pt_BR.yml"), """
+                chain-test:
+                  other: "Outro"
+                """);
+
+        plugin.getConfig().set("lang.use-player-locale", true);
+        plugin.getConfig().set("lang.fallbacks.pt_BR", "pt_PT");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testFallbackStillLoadingIsNotCachedUnderTheHead() throws IOException {
+        Lang lang = Lang.builder(plugin)
+                .langDirectory("lang-chain-test")
+                .asyncLocaleLoading(true)
+                .cachePlaceholders(true)
+                .build();
+
+        PlayerMock player = server.addPlayer();
+        lang.trackPlayer(player.getUniqueId(), PT_BR);
+        awaitLoads();
+
+        // pt_PT appears between pt_BR and en_US in the chain, but is not loaded yet
+        Files.writeString(directory.resolve("pt_PT.yml"), """
+                chain-test:
+                  greeting: "Olá"
+                  welcome: "Olá <name>"
+                """);
+        lang.reloadLocaleFile("pt_PT.yml");
+
+        lang.get(player, GREETING);
+        lang.get(player, "chain-test.greeting");
+        lang.get(player, "chain-test.welcome", Placeholder.unparsed("name", "Kiko"));
+        awaitLoads();
+
+        Assertions.assertEquals("Olá", plain(lang.get(player, GREETING)));
+        Assertions.assertEquals("Olá", plain(lang.get(player, "chain-test.greeting")));
+        Assertions.assertEquals("Olá Kiko", plain(lang.get(player, "chain-test.welcome", Placeholder.unparsed("name", "Kiko"))));
+
+        lang.close();
+    }
+
+    private void awaitLoads() {
+        server.getScheduler().performOneTick();
+        server.getScheduler().waitAsyncTasksFinished();
+    }
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+}
@@ -0,0 +1,137 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.KikoServerMock;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class LangBroadcastTest {
+
+    private static final String PERMISSION = "kikoapi.broadcast-test";
+
+    private KikoServerMock server;
+    private KikoAPI plugin;
+    private Lang lang;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = MockBukkitHelper.safeMock();
+        plugin = MockBukkit.load(KikoAPI.class);
+        plugin.getConfig().set("lang.use-player-locale", true);
+
+        Path directory = plugin.getDataFolder().toPath().resolve("lang-broadcast-test");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("en_US.yml"), """
+                broadcast-test:
+                  start: "<green>Start"
+                  start_sound: "entity.player.levelup;master;1.0;1.0"
+                """);
+        Files.writeString(directory.resolve("fr_FR.yml"), """
+                broadcast-test:
+                  start: "<green>Début"
+                """);
+
+        // Components are not cached, so that every render shows up in the parse histogram
+        lang = Lang.builder(plugin)
+                .langDirectory("lang-broadcast-test")
+                .cacheComponents(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        lang.close();
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testRendersOncePerLocale() {
+        PlayerMock first = frenchPlayer();
+        PlayerMock second = frenchPlayer();
+        RecordingAudience console = new RecordingAudience();
+        RecordingAudience other = new RecordingAudience();
+
+        long parses = lang.metrics().parse().count();
+        lang.broadcast(List.of(first, console, second, other), "broadcast-test.start");
+
+        Assertions.assertEquals(2, lang.metrics().parse().count() - parses, "One render per locale, not per audience");
+
+        Component french = first.nextComponentMessage();
+        Assertions.assertEquals("Début", plain(french));
+        Assertions.assertSame(french, second.nextComponentMessage());
+
+        Assertions.assertEquals(1, console.messages.size());
+        Assertions.assertEquals("Start", plain(console.messages.getFirst()));
+        Assertions.assertSame(console.messages.getFirst(), other.messages.getFirst());
+    }
+
+    @Test
+    void testPlaysTheSoundOncePerAudience() {
+        RecordingAudience console = new RecordingAudience();
+        RecordingAudience other = new RecordingAudience();
+
+        lang.broadcast(List.of(console, other), LangKey.of("broadcast-test.start"));
+
+        Assertions.assertEquals(1, console.sounds.size());
+        Assertions.assertEquals(1, other.sounds.size());
+        Assertions.assertEquals("minecraft:entity.player.levelup", console.sounds.getFirst().name().asString());
+    }
+
+    @Test
+    void testOnlySendsToAudiencesWithThePermission() {
+        PlayerMock allowed = frenchPlayer();
+        allowed.addAttachment(plugin, PERMISSION, true);
+        PlayerMock denied = frenchPlayer();
+        RecordingAudience console = new RecordingAudience();
+
+        lang.broadcast(List.of(allowed, denied, console), PERMISSION, "broadcast-test.start");
+        lang.broadcast(List.of(allowed, denied, console), PERMISSION, LangKey.of("broadcast-test.start"));
+
+        Assertions.assertEquals("Début", plain(allowed.nextComponentMessage()));
+        Assertions.assertEquals("Début", plain(allowed.nextComponentMessage()));
+        Assertions.assertNull(denied.nextComponentMessage());
+        Assertions.assertTrue(console.messages.isEmpty(), "Audiences that cannot have permissions are skipped");
+        Assertions.assertTrue(console.sounds.isEmpty());
+    }
+
+    private PlayerMock frenchPlayer() {
+        PlayerMock player = server.addPlayer();
+        lang.trackPlayer(player.getUniqueId(), Locale.FRANCE);
+        return player;
+    }
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+
+    private static final class RecordingAudience implements Audience {
+        private final List<Component> messages = new ArrayList<>();
+        private final List<Sound> sounds = new ArrayList<>();
+
+        @Override
+        public void sendMessage(Component message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void playSound(Sound sound, Sound.Emitter emitter) {
+            sounds.add(sound);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+class LangBundleTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTrip() throws Exception {
+        Object2ObjectMap<String, String> messages = new Object2ObjectOpenHashMap<>();
+        messages.put("command.reload.done", "<green>Reloaded in <time_ms> ms");
+        messages.put("command.reload.start", "Reloading...");
+        messages.put("special-tags.prefix.kiko", "<gold>KikoAPI</gold>");
+        messages.put("special-tags.kcolor.main", "<#ff8800>");
+        messages.put("unicode.é", "Ça marche ✔");
+        messages.put("command.reload.done_sound", "minecraft:entity.player.levelup");
+
+        byte[] hash = LangBundle.hash("source".getBytes(StandardCharsets.UTF_8));
+        Path path = directory.resolve("en_US" + LangBundle.EXTENSION);
+        LangBundle.write(path, 6, 42, hash, messages);
+
+        LangBundle bundle = LangBundle.open(path, hash);
+        Assertions.assertNotNull(bundle);
+        Assertions.assertEquals(messages, bundle);
+        Assertions.assertEquals("Ça marche ✔", bundle.get("unicode.é"));
+        Assertions.assertNull(bundle.get("command.reload"));
+        Assertions.assertFalse(bundle.containsKey("command.reload.error"));
+
+        Object2ObjectMap<String, String> specialTags = bundle.withPrefix(LangUtils.SPECIAL_TAGS_PREFIX);
+        Assertions.assertEquals(2, specialTags.size());
+        Assertions.assertEquals("<gold>KikoAPI</gold>", specialTags.get("special-tags.prefix.kiko"));
+
+        Assertions.assertEquals(messages.keySet(), bundle.keySet());
+        Assertions.assertEquals(
+                Object2ObjectMaps.singleton("command.reload.done_sound", "minecraft:entity.player.levelup"),
+                bundle.withSuffix(LangUtils.SOUND_SUFFIX)
+        );
+    }
+
+    @Test
+    void testOutdatedBundleIsIgnored() throws Exception {
+        Object2ObjectMap<String, String> messages = new Object2ObjectOpenHashMap<>();
+        messages.put("key", "value");
+
+        Path path = directory.resolve("fr_FR" + LangBundle.EXTENSION);
+        LangBundle.write(path, 1, 42, LangBundle.hash(new byte[]{1}), messages);
+
+        Assertions.assertNull(LangBundle.open(path, LangBundle.hash(new byte[]{2})));
+        Assertions.assertNull(LangBundle.open(directory.resolve("missing" + LangBundle.EXTENSION), LangBundle.hash(new byte[]{1})));
+    }
+
+    @Test
+    void testSourceStampIsCheckedBeforeTheHash() throws Exception {
+        Object2ObjectMap<String, String> messages = new Object2ObjectOpenHashMap<>();
+        messages.put("key", "value");
+
+        byte[] hash = LangBundle.hash(new byte[]{1});
+        Path path = directory.resolve("de_DE" + LangBundle.EXTENSION);
+        LangBundle.write(path, 1, 42, hash, messages);
+
+        Assertions.assertEquals(messages, LangBundle.open(path, 1, 42));
+        Assertions.assertNull(LangBundle.open(path, 1, 43), "A touched source must be hashed");
+        Assertions.assertNull(LangBundle.open(path, 2, 42), "A resized source must be hashed");
+        Assertions.assertEquals(messages, LangBundle.open(path, hash), "A touched but unchanged source keeps its bundle");
+    }
+}
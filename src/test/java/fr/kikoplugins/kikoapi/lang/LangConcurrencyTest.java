@@ -0,0 +1,74 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class LangConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int RENDERS_PER_THREAD = 500;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitHelper.safeMock();
+        MockBukkit.load(KikoAPI.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testConcurrentRendering() throws Exception {
+        Lang lang = KikoAPI.LANG;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        ObjectList<Future<?>> futures = new ObjectArrayList<>(THREADS);
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    for (int j = 0; j < RENDERS_PER_THREAD; j++) {
+                        Component done = lang.get("command.reload.done", Lang.numberPlaceholder("time_ms", j % 16));
+                        Component reloadStart = lang.get("command.reload.start");
+
+                        Assertions.assertTrue(plainText(done).contains("KikoAPI"));
+                        Assertions.assertTrue(plainText(reloadStart).contains("KikoAPI"));
+                        Assertions.assertTrue(lang.hasKey("command.reload.error"));
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures)
+                future.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String plainText(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+}
@@ -0,0 +1,121 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+class LangDisplayTest {
+
+    private final ObjectList<String> sent = new ObjectArrayList<>();
+    private LangDisplay display;
+    private Player player;
+    private boolean online = true;
+
+    @BeforeEach
+    void setUp() {
+        display = new LangDisplay();
+        UUID uuid = UUID.randomUUID();
+
+        // Records the display packets sent to the player
+        player = (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getUniqueId"))
+                        return uuid;
+
+                    if (method.getName().equals("isOnline"))
+                        return online;
+
+                    if (method.getName().equals("sendActionBar") || method.getName().equals("showTitle")
+                            || method.getName().equals("showBossBar") || method.getName().equals("hideBossBar"))
+                        sent.add(method.getName());
+
+                    return null;
+                });
+    }
+
+    @Test
+    void testOnlyTheLastUpdateOfATickIsSent() {
+        display.actionBar(player, Component.text("1"));
+        display.actionBar(player, Component.text("2"));
+        display.actionBar(player, Component.text("3"));
+        display.flush(1L);
+
+        Assertions.assertEquals(ObjectList.of("sendActionBar"), sent);
+    }
+
+    @Test
+    void testUnchangedUpdatesAreSkipped() {
+        Title title = Title.title(Component.text("Round 1"), Component.empty());
+
+        display.actionBar(player, Component.text("Score: 1"));
+        display.title(player, title);
+        display.flush(1L);
+        display.actionBar(player, Component.text("Score: 1"));
+        display.title(player, title);
+        display.flush(2L);
+
+        Assertions.assertEquals(ObjectList.of("sendActionBar", "showTitle"), sent);
+    }
+
+    @Test
+    void testUnchangedActionBarIsRefreshedBeforeFading() {
+        for (long tick = 1; tick <= LangDisplay.ACTION_BAR_REFRESH_TICKS + 1; tick++) {
+            display.actionBar(player, Component.text("Score: 1"));
+            display.flush(tick);
+        }
+
+        Assertions.assertEquals(ObjectList.of("sendActionBar", "sendActionBar"), sent);
+    }
+
+    @Test
+    void testBossBarIsShownOnceAndHidden() {
+        LangDisplay.BarUpdate update = new LangDisplay.BarUpdate(Component.text("Boss"), 0.5F,
+                BossBar.Color.RED, BossBar.Overlay.PROGRESS);
+
+        display.bossBar(player, "boss", update);
+        display.flush(1L);
+        display.bossBar(player, "boss", update);
+        display.flush(2L);
+        display.hideBossBar(player, "boss");
+        display.flush(3L);
+
+        Assertions.assertEquals(ObjectList.of("showBossBar", "hideBossBar"), sent);
+    }
+
+    @Test
+    void testFlushReportsPendingUpdates() {
+        Assertions.assertFalse(display.flush(1L));
+
+        display.actionBar(player, Component.text("Score: 1"));
+        Assertions.assertTrue(display.hasPending());
+        Assertions.assertTrue(display.flush(2L));
+        Assertions.assertFalse(display.hasPending());
+        Assertions.assertFalse(display.flush(3L));
+    }
+
+    @Test
+    void testUpdatesQueuedAfterQuitAreDropped() {
+        display.actionBar(player, Component.text("Score: 1"));
+        display.flush(1L);
+
+        online = false;
+        display.actionBar(player, Component.text("Score: 1"));
+        display.flush(2L);
+
+        // Joining again starts from a fresh state, the client no longer shows the action bar
+        online = true;
+        display.actionBar(player, Component.text("Score: 1"));
+        display.flush(3L);
+
+        Assertions.assertEquals(ObjectList.of("sendActionBar", "sendActionBar"), sent);
+    }
+}
@@ -0,0 +1,48 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+class LangFallbacksTest {
+    private static final Locale EN_US = Locale.forLanguageTag("en-US");
+    private static final Locale EN_GB = Locale.forLanguageTag("en-GB");
+    private static final Locale EN_AU = Locale.forLanguageTag("en-AU");
+    private static final Locale FR_FR = Locale.forLanguageTag("fr-FR");
+    private static final Locale FR_QC = Locale.forLanguageTag("fr-QC");
+    private static final Locale FR_CA = Locale.forLanguageTag("fr-CA");
+
+    private final LangFallbacks fallbacks = fallbacks();
+
+    @Test
+    void testDefaultLocaleHasNoLanguageMatch() {
+        Assertions.assertEquals(ObjectList.of(EN_US), fallbacks.chain(EN_US));
+        Assertions.assertEquals(ObjectList.of(EN_GB, EN_US), fallbacks.chain(EN_GB));
+    }
+
+    @Test
+    void testLanguageMatchOnlyStandsInForMissingFiles() {
+        Assertions.assertEquals(ObjectList.of(FR_FR, EN_US), fallbacks.chain(FR_FR));
+        Assertions.assertEquals(ObjectList.of(EN_US), fallbacks.chain(EN_AU), "The default locale is the best of its language");
+    }
+
+    @Test
+    void testConfiguredFallbacksOfAClientLocaleWithoutFile() {
+        Assertions.assertEquals(ObjectList.of(FR_QC, EN_GB, FR_FR, EN_US), fallbacks.chain(FR_CA));
+        Assertions.assertEquals(ObjectList.of(FR_QC, EN_US), fallbacks.chain(FR_QC));
+    }
+
+    private static LangFallbacks fallbacks() {
+        ObjectSet<Locale> available = new ObjectOpenHashSet<>(new Locale[]{EN_US, EN_GB, FR_FR, FR_QC});
+        Object2ObjectMap<Locale, ObjectList<Locale>> configured = new Object2ObjectOpenHashMap<>();
+        configured.put(FR_CA, ObjectList.of(FR_QC, EN_GB));
+
+        return new LangFallbacks(EN_US, available, configured);
+    }
+}
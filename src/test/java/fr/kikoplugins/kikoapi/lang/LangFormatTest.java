@@ -0,0 +1,40 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Currency;
+import java.util.Locale;
+
+class LangFormatTest {
+    private static final String[] UNITS = {"d", "h", "m", "s"};
+
+    @Test
+    void testNumbersFollowTheLocale() {
+        Assertions.assertEquals("1,234,567", LangFormat.integer(Locale.US, 1_234_567L));
+        Assertions.assertEquals("1,234.5", LangFormat.decimal(Locale.US, 1234.5000001D));
+        Assertions.assertEquals("1.2K", LangFormat.compact(Locale.US, 1234L));
+        Assertions.assertTrue(LangFormat.decimal(Locale.FRANCE, 1234.5D).endsWith("234,5"));
+    }
+
+    @Test
+    void testCurrencyDefaultsToTheLocaleCurrency() {
+        Assertions.assertEquals("$1,234.50", LangFormat.currency(Locale.US, 1234.5D, null));
+        Assertions.assertTrue(LangFormat.currency(Locale.FRANCE, 3D, Currency.getInstance("USD")).contains("$"));
+        Assertions.assertTrue(LangFormat.currency(Locale.FRANCE, 3D, null).contains("€"));
+    }
+
+    @Test
+    void testCurrencyOfALocaleWithoutCountry() {
+        Locale french = Locale.FRENCH;
+
+        Assertions.assertTrue(LangFormat.currency(french, 3D, Currency.getInstance("EUR")).contains("€"));
+        Assertions.assertFalse(LangFormat.currency(french, 3D, null).contains("€"), "The locale currency is restored");
+    }
+
+    @Test
+    void testDurationSkipsZeroUnits() {
+        Assertions.assertEquals("1d 2h 5s", LangFormat.duration(Locale.US, 93_605L, UNITS));
+        Assertions.assertEquals("0s", LangFormat.duration(Locale.US, -5L, UNITS));
+    }
+}
@@ -0,0 +1,83 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+
+class LangIdleLocaleTest {
+
+    private KikoAPI plugin;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitHelper.safeMock();
+        plugin = MockBukkit.load(KikoAPI.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testUnloadsIdleLocalesButNotTheDefault() {
+        Lang lang = Lang.builder(plugin)
+                .loadAllLocales(true)
+                .unloadIdleLocales(Duration.ofNanos(1))
+                .build();
+
+        Locale french = Locale.forLanguageTag("fr-FR");
+        Assertions.assertTrue(lang.loadedLocales().contains(french));
+
+        lang.unloadIdleLocales();
+
+        Assertions.assertFalse(lang.loadedLocales().contains(french));
+        Assertions.assertTrue(lang.loadedLocales().contains(lang.defaultLocale()));
+        Assertions.assertEquals(1, lang.metrics().locales().get(french).unloads());
+        Assertions.assertTrue(lang.hasKey("command.reload.start"));
+
+        lang.close();
+    }
+
+    @Test
+    void testCountsTrackedPlayersByLocale() {
+        plugin.getConfig().set("lang.use-player-locale", true);
+        Lang lang = Lang.builder(plugin).build();
+
+        Locale french = Locale.forLanguageTag("fr-FR");
+        UUID uuid = UUID.randomUUID();
+        lang.trackPlayer(uuid, french);
+
+        Object2IntMap<Locale> players = lang.playersByLocale();
+        Assertions.assertEquals(1, players.getInt(french));
+        Assertions.assertEquals(1, players.getInt(lang.defaultLocale()), "The default locale is a fallback of every locale");
+
+        lang.untrackPlayer(uuid);
+
+        Assertions.assertEquals(0, lang.playersByLocale().getInt(french));
+
+        lang.close();
+    }
+
+    @Test
+    void testRequiresAnEnabledPlugin() {
+        JavaPlugin other = MockBukkit.createMockPlugin("OtherPlugin");
+        plugin.getServer().getPluginManager().disablePlugin(other);
+
+        LangBuilder builder = Lang.builder(other).unloadIdleLocales(Duration.ofMinutes(5));
+        Assertions.assertThrows(IllegalStateException.class, builder::build, "Nothing would stop unloading idle locales");
+
+        Lang lang = Assertions.assertDoesNotThrow(() -> Lang.builder(other).build());
+        lang.close();
+    }
+}
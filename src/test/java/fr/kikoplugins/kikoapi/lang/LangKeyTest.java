@@ -0,0 +1,64 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+class LangKeyTest {
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitHelper.safeMock();
+        MockBukkit.load(KikoAPI.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testKeysAreInterned() {
+        LangKey key = LangKey.of("command.reload.start");
+
+        Assertions.assertSame(key, LangKey.of("command.reload.start"));
+        Assertions.assertNotEquals(key.index(), LangKey.of("command.reload.done").index());
+    }
+
+    @Test
+    void testMatchesStringLookups() {
+        Lang lang = KikoAPI.LANG;
+        LangKey start = LangKey.of("command.reload.start");
+        LangKey done = LangKey.of("command.reload.done");
+        LangKey missing = LangKey.of("command.reload.missing");
+
+        Assertions.assertEquals(lang.getString("command.reload.start"), lang.getString(start));
+        Assertions.assertEquals(lang.get("command.reload.start"), lang.get(start));
+        Assertions.assertSame(lang.get(start), lang.get(start));
+        Assertions.assertEquals(
+                lang.get("command.reload.done", Lang.numberPlaceholder("time_ms", 12)),
+                lang.get(done, Lang.numberPlaceholder("time_ms", 12))
+        );
+        Assertions.assertEquals(lang.getString("command.reload.missing"), lang.getString(missing));
+    }
+
+    @Test
+    void testInstancesDoNotShareRenderedComponents() {
+        Lang other = Lang.builder(MockBukkit.createMockPlugin("OtherPlugin")).build();
+        LangKey start = LangKey.of("command.reload.start");
+
+        Component kiko = KikoAPI.LANG.get(start);
+        Component otherComponent = other.get(start);
+
+        Assertions.assertNotEquals(kiko, otherComponent);
+        Assertions.assertEquals(KikoAPI.LANG.get("command.reload.start"), KikoAPI.LANG.get(start));
+        Assertions.assertEquals(other.get("command.reload.start"), other.get(start));
+
+        other.close();
+    }
+}
@@ -0,0 +1,142 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.KikoServerMock;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+class LangListenerTest {
+
+    private static final LangKey GREETING = LangKey.of("tracking-test.greeting");
+
+    private KikoServerMock server;
+    private KikoAPI plugin;
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = MockBukkitHelper.safeMock();
+        plugin = MockBukkit.load(KikoAPI.class);
+        plugin.getConfig().set("lang.use-player-locale", true);
+
+        directory = plugin.getDataFolder().toPath().resolve("lang-tracking-test");
+        Files.createDirectories(directory);
+        write("en_US.yml", "Hello");
+        write("fr_FR.yml", "Bonjour");
+        write("pt_BR.yml", "Olá");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testClosedInstanceStopsTrackingPlayers() {
+        Lang lang = Lang.builder(plugin).build();
+        lang.close();
+
+        server.addPlayer();
+
+        Assertions.assertEquals(0, lang.playersByLocale().getInt(lang.defaultLocale()));
+    }
+
+    @Test
+    void testTrackedChainFollowsLocaleChangesAndReloads() throws IOException {
+        Lang lang = trackingLang();
+        PlayerMock player = server.addPlayer();
+
+        Assertions.assertEquals("Hello", greeting(lang, player));
+
+        changeLocale(player, "fr_FR");
+        Assertions.assertEquals("Bonjour", greeting(lang, player));
+        Assertions.assertEquals(1, lang.playersByLocale().getInt(Locale.FRANCE));
+
+        // The chain remembered for the player belongs to the previous snapshot
+        write("fr_FR.yml", "Salut");
+        lang.reload();
+        Assertions.assertEquals("Salut", greeting(lang, player));
+
+        lang.close();
+    }
+
+    @Test
+    void testIncompleteChainIsResolvedAgainOnceLoaded() {
+        Lang lang = trackingLang();
+        PlayerMock player = server.addPlayer();
+
+        changeLocale(player, "pt_BR");
+        // A chain missing pt_BR must not stick to the player once it is loaded
+        lang.get(player, GREETING);
+
+        Assertions.assertEquals("Olá", greeting(lang, player));
+
+        lang.close();
+    }
+
+    @Test
+    void testQuitDuringResolutionDoesNotTrackAgain() {
+        Lang lang = trackingLang();
+        PlayerMock player = server.addPlayer();
+
+        changeLocale(player, "pt_BR");
+        lang.get(player, GREETING);
+        player.disconnect();
+        awaitLoads();
+
+        lang.get(player, GREETING);
+
+        Assertions.assertTrue(lang.playersByLocale().isEmpty(), "A player who quit is never tracked again");
+
+        lang.close();
+    }
+
+    private Lang trackingLang() {
+        return Lang.builder(plugin)
+                .langDirectory("lang-tracking-test")
+                .asyncLocaleLoading(true)
+                .build();
+    }
+
+    private void changeLocale(PlayerMock player, String locale) {
+        // Loading the new locale is only scheduled, the next lookup may see its chain incomplete
+        server.getPluginManager().callEvent(new PlayerLocaleChangeEvent(player, locale));
+    }
+
+    private String greeting(Lang lang, PlayerMock player) {
+        // Locales missing from the chain are loaded in the background on first use
+        lang.get(player, GREETING);
+        awaitLoads();
+
+        return plain(lang.get(player, GREETING));
+    }
+
+    private void awaitLoads() {
+        server.getScheduler().performOneTick();
+        server.getScheduler().waitAsyncTasksFinished();
+    }
+
+    private void write(String file, String greeting) throws IOException {
+        Files.writeString(directory.resolve(file), """
+                tracking-test:
+                  greeting: "%s"
+                """.formatted(greeting));
+    }
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+}
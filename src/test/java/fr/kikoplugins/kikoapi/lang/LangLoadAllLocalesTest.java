@@ -0,0 +1,56 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.util.Locale;
+
+class LangLoadAllLocalesTest {
+
+    private static final Locale FRENCH = Locale.forLanguageTag("fr-FR");
+
+    private KikoAPI plugin;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitHelper.safeMock();
+        plugin = MockBukkit.load(KikoAPI.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testLoadsEveryLanguageFileAtStartupAndOnReload() {
+        Lang lang = Lang.builder(plugin)
+                .loadAllLocales(true)
+                .build();
+
+        Assertions.assertTrue(lang.loadedLocales().contains(FRENCH));
+        Assertions.assertTrue(lang.loadedLocales().contains(lang.defaultLocale()));
+
+        LangReloadReport report = lang.reload(false);
+
+        Assertions.assertTrue(lang.loadedLocales().contains(FRENCH));
+        Assertions.assertEquals(lang.loadedLocales().size(), report.locales());
+
+        lang.close();
+    }
+
+    @Test
+    void testOnlyLoadsTheDefaultLocaleByDefault() {
+        Lang lang = Lang.builder(plugin).build();
+
+        Assertions.assertFalse(lang.loadedLocales().contains(FRENCH));
+        Assertions.assertTrue(lang.loadedLocales().contains(lang.defaultLocale()));
+
+        lang.close();
+    }
+}
@@ -0,0 +1,70 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+class LangMetricsTest {
+
+    @Test
+    void testCountsPerLocale() {
+        LangMetrics metrics = new LangMetrics();
+
+        metrics.recordHit(Locale.US, 100);
+        metrics.recordHit(Locale.US, 100);
+        metrics.recordHit(Locale.US, 100);
+        metrics.recordMiss(Locale.US);
+        metrics.recordEviction(Locale.FRANCE);
+        metrics.recordLocaleLoad(Locale.US);
+        metrics.recordLocaleLoad(Locale.FRANCE);
+        metrics.recordLocaleUnload(Locale.FRANCE);
+
+        LangMetrics.LocaleMetrics us = metrics.locales().get(Locale.US);
+        Assertions.assertEquals(3, us.hits());
+        Assertions.assertEquals(1, us.misses());
+        Assertions.assertEquals(0.75D, us.hitRate());
+        Assertions.assertEquals(3, metrics.cacheHit().count());
+
+        LangMetrics.LocaleMetrics france = metrics.locales().get(Locale.FRANCE);
+        Assertions.assertEquals(1, france.evictions());
+        Assertions.assertEquals(1, france.unloads());
+        Assertions.assertEquals(0D, france.hitRate());
+        Assertions.assertEquals(2, metrics.localeLoads());
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LangMetrics metrics = new LangMetrics();
+        LangMetrics.Histogram histogram = metrics.parse();
+
+        Assertions.assertEquals(0, histogram.percentileNanos(0.5D));
+        Assertions.assertEquals(0D, histogram.meanNanos());
+
+        // 99 samples in [512, 1023], one in [65536, 131071]
+        for (int i = 0; i < 99; i++)
+            metrics.recordParse(1000);
+        metrics.recordParse(100_000);
+
+        Assertions.assertEquals(100, histogram.count());
+        Assertions.assertEquals(1990D, histogram.meanNanos());
+        Assertions.assertEquals(1023, histogram.percentileNanos(0.5D));
+        Assertions.assertEquals(1023, histogram.percentileNanos(0.99D));
+        Assertions.assertEquals(131_071, histogram.percentileNanos(1D));
+        Assertions.assertEquals(0, metrics.template().count(), "Parses are not template fills");
+    }
+
+    @Test
+    void testMissingKeysAreCappedButCounted() {
+        LangMetrics metrics = new LangMetrics();
+
+        for (int i = 0; i < 2000; i++)
+            metrics.recordMissingKey("missing." + i);
+        metrics.recordMissingKey("missing.0");
+
+        Assertions.assertEquals(2001, metrics.missingKeys());
+        Assertions.assertEquals(1024, metrics.missingKeyCounts().size());
+        Assertions.assertEquals(2, metrics.missingKeyCounts().getLong("missing.0"));
+        Assertions.assertFalse(metrics.missingKeyCounts().containsKey("missing.1999"));
+    }
+}
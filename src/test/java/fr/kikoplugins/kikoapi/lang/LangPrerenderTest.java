@@ -0,0 +1,39 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+class LangPrerenderTest {
+
+    private KikoAPI plugin;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitHelper.safeMock();
+        plugin = MockBukkit.load(KikoAPI.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testPrerendersMessagesWithoutPlaceholders() {
+        Lang lang = Lang.builder(plugin)
+                .prerender(true)
+                .build();
+
+        LangLocale locale = lang.loadLocale(lang.defaultLocale());
+
+        Assertions.assertNotNull(locale.prerendered("command.reload.start"));
+        Assertions.assertNull(locale.prerendered("command.reload.done"), "Messages with placeholders are rendered on use");
+        Assertions.assertNull(locale.prerendered("special-tags.kcolor.primary"));
+        Assertions.assertEquals(KikoAPI.LANG.get("command.reload.start"), lang.get("command.reload.start"));
+    }
+}
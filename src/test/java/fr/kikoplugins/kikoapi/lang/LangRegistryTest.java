@@ -0,0 +1,112 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class LangRegistryTest {
+
+    private KikoAPI plugin;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitHelper.safeMock();
+        plugin = MockBukkit.load(KikoAPI.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testInstancesShareOneNamespacedCache() {
+        LangRegistry registry = plugin.getLangRegistry();
+        Lang other = Lang.builder(MockBukkit.createMockPlugin("OtherPlugin"))
+                .useSharedCache(true)
+                .build();
+
+        KikoAPI.LANG.get("command.reload.start");
+        other.get("command.reload.start");
+
+        Assertions.assertEquals(2, registry.instances().size());
+        Assertions.assertTrue(registry.weightByNamespace().containsKey(KikoAPI.LANG.namespace()));
+        Assertions.assertTrue(registry.weightByNamespace().containsKey(other.namespace()));
+
+        other.close();
+
+        Assertions.assertFalse(registry.instances().containsKey(other.namespace()));
+        Assertions.assertFalse(registry.weightByNamespace().containsKey(other.namespace()));
+        Assertions.assertTrue(registry.weightByNamespace().containsKey(KikoAPI.LANG.namespace()));
+    }
+
+    @Test
+    void testPlaceholderComponentsStayInTheInstanceCache() {
+        LangRegistry registry = plugin.getLangRegistry();
+        Lang other = Lang.builder(MockBukkit.createMockPlugin("OtherPlugin"))
+                .useSharedCache(true)
+                .cachePlaceholders(true)
+                .build();
+
+        other.get("command.reload.done", Placeholder.unparsed("time_ms", "5"));
+
+        Assertions.assertFalse(registry.weightByNamespace().containsKey(other.namespace()));
+        Assertions.assertTrue(other.cacheStats().contains("Placeholder Cache: size=1"));
+
+        other.close();
+    }
+
+    @Test
+    void testInstancesOfOnePluginDoNotShareComponents() throws IOException {
+        Path directory = plugin.getDataFolder().toPath().resolve("lang-shared-test");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("en_US.yml"), """
+                command:
+                  reload:
+                    start: "Shared start"
+                """);
+
+        Lang shared = Lang.builder(plugin)
+                .langDirectory("lang-shared-test")
+                .useSharedCache(true)
+                .build();
+
+        Component own = KikoAPI.LANG.get("command.reload.start");
+        Component other = shared.get("command.reload.start");
+
+        Assertions.assertNotEquals(KikoAPI.LANG.namespace(), shared.namespace());
+        Assertions.assertEquals("Shared start", PlainTextComponentSerializer.plainText().serialize(other));
+        Assertions.assertNotEquals(own, other);
+        Assertions.assertEquals(own, KikoAPI.LANG.get("command.reload.start"));
+
+        shared.close();
+    }
+
+    @Test
+    void testSecondLiveInstanceOfOneDirectoryIsRejected() {
+        JavaPlugin owner = MockBukkit.createMockPlugin("OtherPlugin");
+        Lang first = Lang.builder(owner)
+                .useSharedCache(true)
+                .build();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> Lang.builder(owner).useSharedCache(true).build());
+
+        first.close();
+        Lang second = Lang.builder(owner).useSharedCache(true).build();
+        Assertions.assertSame(second, plugin.getLangRegistry().instances().get(second.namespace()));
+
+        second.close();
+    }
+}
@@ -0,0 +1,67 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import fr.kikoplugins.kikoapi.KikoAPI;
+import fr.kikoplugins.kikoapi.mock.MockBukkitHelper;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class LangReloadFileTest {
+
+    private static final LangKey GREETING = LangKey.of("reload-test.greeting");
+
+    private KikoAPI plugin;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockBukkitHelper.safeMock();
+        plugin = MockBukkit.load(KikoAPI.class);
+
+        Path directory = plugin.getDataFolder().toPath().resolve("lang-reload-test");
+        Files.createDirectories(directory);
+        file = directory.resolve("en_US.yml");
+        write("Hello", "Goodbye");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    void testOnlyChangedKeysAreRenderedAgain() throws IOException {
+        Lang lang = Lang.builder(plugin)
+                .langDirectory("lang-reload-test")
+                .build();
+
+        Component greeting = lang.get(GREETING);
+        Component farewell = lang.get("reload-test.farewell");
+
+        write("Welcome", "Goodbye");
+        lang.reloadLocaleFile("en_US.yml");
+
+        Assertions.assertEquals("Welcome", PlainTextComponentSerializer.plainText().serialize(lang.get(GREETING)));
+        Assertions.assertEquals("Welcome", PlainTextComponentSerializer.plainText().serialize(lang.get("reload-test.greeting")));
+        Assertions.assertNotEquals(greeting, lang.get(GREETING));
+        Assertions.assertSame(farewell, lang.get("reload-test.farewell"), "Unchanged keys keep their cached component");
+
+        lang.close();
+    }
+
+    private void write(String greeting, String farewell) throws IOException {
+        Files.writeString(file, """
+                reload-test:
+                  greeting: "%s"
+                  farewell: "%s"
+                """.formatted(greeting, farewell));
+    }
+}
@@ -0,0 +1,87 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LangTemplateTest {
+
+    private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+
+    @Test
+    void testRenderMatchesMiniMessage() {
+        assertSameAsParser("<red>Hello <player>, you have <amount> coins</red>",
+                Placeholder.unparsed("player", "Kiko"),
+                Placeholder.component("amount", Component.text(5, NamedTextColor.GOLD))
+        );
+        assertSameAsParser("<player> joined", Placeholder.unparsed("player", "Kiko"));
+        assertSameAsParser("<hover:show_text:'<green><player>'>Hover me</hover> <player>",
+                Placeholder.unparsed("player", "Kiko")
+        );
+    }
+
+    @Test
+    void testRenderIsReusable() {
+        LangTemplate template = compile("<gray>Killed by <killer>", Placeholder.unparsed("killer", "Kiko"));
+
+        Assertions.assertTrue(template.compiled());
+        Assertions.assertEquals(
+                MINI_MESSAGE.deserialize("<gray>Killed by <killer>", Placeholder.unparsed("killer", "Steve")),
+                template.render(LangTemplate.slotValues(Placeholder.unparsed("killer", "Steve")))
+        );
+    }
+
+    @Test
+    void testGradientAroundPlaceholderIsNotCompiled() {
+        LangTemplate template = compile("<gradient:red:blue>Hello <player></gradient>",
+                Placeholder.unparsed("player", "Kiko")
+        );
+
+        Assertions.assertFalse(template.compiled());
+    }
+
+    @Test
+    void testShadowedPlaceholderIsNotCompiled() {
+        LangTemplate template = compile("<red>Hello</red>", Placeholder.unparsed("red", "Kiko"));
+
+        Assertions.assertFalse(template.compiled());
+    }
+
+    @Test
+    void testLiveTagIsNotCompiled() {
+        TagResolver online = TagResolver.resolver("online", Tag.preProcessParsed("12"));
+        ObjectList<String> names = ObjectList.of("player");
+
+        Assertions.assertFalse(LangTemplate.compile("<player> joined (<online> online)", names, online).compiled());
+        Assertions.assertTrue(LangTemplate.compile("<player> joined", names, online).compiled());
+    }
+
+    @Test
+    void testParsedPlaceholderHasNoSlotValue() {
+        Assertions.assertNull(LangTemplate.slotValues(Placeholder.parsed("player", "<red>Kiko")));
+    }
+
+    private static void assertSameAsParser(String message, TagResolver... placeholders) {
+        LangTemplate template = compile(message, placeholders);
+
+        Assertions.assertTrue(template.compiled());
+        Assertions.assertEquals(
+                MINI_MESSAGE.deserialize(message, placeholders),
+                template.render(LangTemplate.slotValues(placeholders))
+        );
+    }
+
+    private static LangTemplate compile(String message, TagResolver... placeholders) {
+        ObjectList<String> names = new ObjectArrayList<>(LangTemplate.slotValues(placeholders).keySet());
+        names.sort(null);
+
+        return LangTemplate.compile(message, names, TagResolver.empty());
+    }
+}
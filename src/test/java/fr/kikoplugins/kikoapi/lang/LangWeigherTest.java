@@ -0,0 +1,44 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LangWeigherTest {
+
+    @Test
+    void testLongerTextWeighsMore() {
+        long shortText = LangWeigher.retainedSize(Component.text("Hi"));
+        long longText = LangWeigher.retainedSize(Component.text("Hi".repeat(100)));
+
+        Assertions.assertTrue(longText - shortText >= 190, "Each Latin-1 character costs a byte");
+    }
+
+    @Test
+    void testStylesAndEventsWeighMore() {
+        Component plain = Component.text("Click me");
+        Component named = plain.color(NamedTextColor.RED);
+        Component hex = plain.color(TextColor.color(0x123456));
+        Component interactive = hex
+                .clickEvent(ClickEvent.runCommand("/help"))
+                .hoverEvent(HoverEvent.showText(Component.text("Runs /help")));
+
+        Assertions.assertTrue(LangWeigher.retainedSize(plain) < LangWeigher.retainedSize(named));
+        Assertions.assertTrue(LangWeigher.retainedSize(named) < LangWeigher.retainedSize(hex));
+        Assertions.assertTrue(LangWeigher.retainedSize(hex) < LangWeigher.retainedSize(interactive));
+    }
+
+    @Test
+    void testChildrenAreCounted() {
+        Component gradient = MiniMessage.miniMessage().deserialize("<gradient:#ff0000:#0000ff>A gradient help page</gradient>");
+        Component flat = Component.text("A gradient help page");
+
+        Assertions.assertFalse(gradient.children().isEmpty());
+        Assertions.assertTrue(LangWeigher.retainedSize(gradient) > 4 * LangWeigher.retainedSize(flat));
+    }
+}
@@ -0,0 +1,100 @@
+package fr.kikoplugins.kikoapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+class LangYamlReaderTest {
+
+    private static final String YAML = """
+            special-tags:
+              prefix:
+                kiko: "<gold>KikoAPI</gold>"
+            command:
+              reload:
+                start: Reloading...
+                done: "<green>Reloaded in <time_ms> ms"
+                lines: |
+                  first line
+                  second line
+            number: 12
+            quoted-number: "12"
+            tagged: !!str 12
+            enabled: true
+            empty:
+            list:
+              - a
+              - b
+            after-list: still read
+            """;
+
+    @Test
+    void testFlattensStringScalars() {
+        Object2ObjectMap<String, String> messages = LangYamlReader.read(new StringReader(YAML));
+
+        Assertions.assertEquals("<gold>KikoAPI</gold>", messages.get("special-tags.prefix.kiko"));
+        Assertions.assertEquals("Reloading...", messages.get("command.reload.start"));
+        Assertions.assertEquals("first line\nsecond line\n", messages.get("command.reload.lines"));
+        Assertions.assertEquals("12", messages.get("quoted-number"));
+        Assertions.assertEquals("12", messages.get("tagged"));
+        Assertions.assertEquals("still read", messages.get("after-list"));
+
+        Assertions.assertFalse(messages.containsKey("number"));
+        Assertions.assertFalse(messages.containsKey("enabled"));
+        Assertions.assertFalse(messages.containsKey("empty"));
+        Assertions.assertFalse(messages.containsKey("list"));
+    }
+
+    private static final String ANCHORS_YAML = """
+            colors:
+              primary: &primary "<#ff8800>"
+            base: &base
+              title: "<gold>Base title"
+              footer: "Base footer"
+              nested:
+                line: "Nested line"
+            menu:
+              color: *primary
+              copy: *base
+              merged:
+                <<: *base
+                title: "<red>Own title"
+            """;
+
+    @Test
+    void testResolvesAliasesAndMergeKeys() {
+        Object2ObjectMap<String, String> messages = LangYamlReader.read(new StringReader(ANCHORS_YAML));
+
+        Assertions.assertEquals("<#ff8800>", messages.get("menu.color"));
+        Assertions.assertEquals("Nested line", messages.get("menu.copy.nested.line"));
+        Assertions.assertEquals("<red>Own title", messages.get("menu.merged.title"));
+        Assertions.assertEquals("Base footer", messages.get("menu.merged.footer"));
+        assertMatchesYamlConfiguration(ANCHORS_YAML);
+    }
+
+    @Test
+    void testMatchesYamlConfiguration() throws Exception {
+        assertMatchesYamlConfiguration(YAML);
+    }
+
+    private static void assertMatchesYamlConfiguration(String yaml) {
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(yaml);
+        } catch (InvalidConfigurationException e) {
+            throw new AssertionError(e);
+        }
+
+        Object2ObjectMap<String, String> messages = LangYamlReader.read(new StringReader(yaml));
+        for (String key : config.getKeys(true)) {
+            if (config.isString(key))
+                Assertions.assertEquals(config.getString(key), messages.get(key), key);
+        }
+
+        Assertions.assertEquals(config.getKeys(true).stream().filter(config::isString).count(), messages.size());
+    }
+}